@@ -0,0 +1,21 @@
+-- Replica bootstrap (docker-compose.replica.yml)
+-- Local-only objects are created with binlog disabled so they never conflict with replicated events.
+SET SESSION sql_log_bin = 0;
+
+CREATE DATABASE IF NOT EXISTS jiucom CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+-- Read-only application user (REPLICATION CLIENT is needed for the lag check: SHOW REPLICA STATUS)
+CREATE USER IF NOT EXISTS 'jiucom_ro'@'%' IDENTIFIED BY 'jiucomro1234';
+GRANT SELECT ON jiucom.* TO 'jiucom_ro'@'%';
+GRANT REPLICATION CLIENT ON *.* TO 'jiucom_ro'@'%';
+FLUSH PRIVILEGES;
+
+SET SESSION sql_log_bin = 1;
+
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'repl',
+    SOURCE_PASSWORD = 'repl1234',
+    SOURCE_AUTO_POSITION = 1;
+START REPLICA;
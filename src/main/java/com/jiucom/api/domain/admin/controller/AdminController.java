@@ -6,7 +6,9 @@ import com.jiucom.api.domain.part.dto.request.PartCreateRequest;
 import com.jiucom.api.domain.part.dto.request.PartUpdateRequest;
 import com.jiucom.api.domain.part.dto.response.PartDetailResponse;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.service.PartRecommendationService;
 import com.jiucom.api.domain.part.service.PartService;
+import com.jiucom.api.domain.part.service.PartSpecService;
 import com.jiucom.api.global.naver.NaverShoppingService;
 import com.jiucom.api.global.naver.NaverShoppingService.NaverImportResult;
 import com.jiucom.api.global.response.ApiResponse;
@@ -16,8 +18,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Admin", description = "관리자 API")
 @RestController
@@ -26,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final PartService partService;
+    private final PartSpecService partSpecService;
+    private final PartRecommendationService partRecommendationService;
     private final AdminService adminService;
     private final NaverShoppingService naverShoppingService;
 
@@ -45,6 +51,15 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.ok(users));
     }
 
+    @Operation(summary = "사용자 전체 내보내기 (스트리밍)")
+    @GetMapping(value = "/users/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = adminService::exportUsers;
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // nginx 가 전체를 버퍼링하지 않고 바로 전달
+                .body(body);
+    }
+
     @Operation(summary = "부품 등록")
     @PostMapping("/parts")
     public ResponseEntity<ApiResponse<PartDetailResponse>> createPart(
@@ -69,6 +84,20 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
+    @Operation(summary = "부품 스펙 facet 재색인", description = "전체 부품의 specs JSON/부품명에서 스펙 facet을 다시 추출합니다")
+    @PostMapping("/parts/specs/reindex")
+    public ResponseEntity<ApiResponse<Integer>> reindexPartSpecs() {
+        int indexed = partSpecService.reindexAll();
+        return ResponseEntity.ok(ApiResponse.ok(indexed));
+    }
+
+    @Operation(summary = "부품 추천 행렬 재계산", description = "즐겨찾기/가격 알림/견적 부품으로 부품 간 동시 관심 횟수를 다시 계산합니다")
+    @PostMapping("/parts/recommendations/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildPartRecommendations() {
+        int parts = partRecommendationService.rebuild();
+        return ResponseEntity.ok(ApiResponse.ok(parts));
+    }
+
     @Operation(summary = "네이버 쇼핑 데이터 전체 임포트", description = "네이버 쇼핑 API에서 컴퓨터 부품 데이터를 가져옵니다 (CPU, GPU, RAM, SSD, 메인보드, 파워, 케이스, 쿨러)")
     @PostMapping("/naver-import")
     public ResponseEntity<ApiResponse<NaverImportResult>> importFromNaver() {
@@ -0,0 +1,20 @@
+package com.jiucom.api.domain.admin.dto.response;
+
+import com.jiucom.api.domain.user.entity.enums.Role;
+import com.jiucom.api.domain.user.entity.enums.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class UserExportResponse {
+
+    private Long id;
+    private String email;
+    private String nickname;
+    private Role role;
+    private UserStatus status;
+    private LocalDateTime createdAt;
+}
@@ -1,11 +1,13 @@
 package com.jiucom.api.domain.admin.service;
 
 import com.jiucom.api.domain.admin.dto.response.DashboardResponse;
+import com.jiucom.api.domain.admin.dto.response.UserExportResponse;
 import com.jiucom.api.domain.build.repository.BuildRepository;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.post.repository.PostRepository;
 import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.repository.UserRepository;
+import com.jiucom.api.global.response.JsonStreamWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,9 +16,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +32,7 @@ public class AdminService {
     private final BuildRepository buildRepository;
     private final PartRepository partRepository;
     private final PostRepository postRepository;
+    private final JsonStreamWriter jsonStreamWriter;
 
     public DashboardResponse getDashboard() {
         long totalUsers = userRepository.count();
@@ -73,4 +79,13 @@ public class AdminService {
                         .createdAt(user.getCreatedAt().toString())
                         .build());
     }
+
+    /**
+     * 전체 사용자 목록을 DB 커서에서 응답 스트림으로 바로 쓴다 (트랜잭션은 쓰기가 끝날 때까지 유지).
+     */
+    public int exportUsers(OutputStream out) throws IOException {
+        try (Stream<UserExportResponse> users = userRepository.streamAllForExport()) {
+            return jsonStreamWriter.writeList(out, users);
+        }
+    }
 }
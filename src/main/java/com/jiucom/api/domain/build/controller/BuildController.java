@@ -0,0 +1,74 @@
+package com.jiucom.api.domain.build.controller;
+
+import com.jiucom.api.domain.build.dto.request.BuildCreateRequest;
+import com.jiucom.api.domain.build.dto.request.BuildUpdateRequest;
+import com.jiucom.api.domain.build.dto.response.BuildDetailResponse;
+import com.jiucom.api.domain.build.dto.response.BuildListResponse;
+import com.jiucom.api.domain.build.service.BuildService;
+import com.jiucom.api.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Build", description = "견적 API")
+@RestController
+@RequestMapping("/builds")
+@RequiredArgsConstructor
+public class BuildController {
+
+    private final BuildService buildService;
+
+    @Operation(summary = "공개 견적 목록 조회")
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<BuildListResponse>>> getBuilds(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<BuildListResponse> builds = buildService.getPublicBuilds(page, size);
+        return ResponseEntity.ok(ApiResponse.ok(builds));
+    }
+
+    @Operation(summary = "내 견적 목록 조회")
+    @GetMapping("/my")
+    public ResponseEntity<ApiResponse<Page<BuildListResponse>>> getMyBuilds(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<BuildListResponse> builds = buildService.getMyBuilds(page, size);
+        return ResponseEntity.ok(ApiResponse.ok(builds));
+    }
+
+    @Operation(summary = "견적 상세 조회 (호환성 검사 포함)")
+    @GetMapping("/{buildId}")
+    public ResponseEntity<ApiResponse<BuildDetailResponse>> getBuild(@PathVariable Long buildId) {
+        BuildDetailResponse build = buildService.getBuildDetail(buildId);
+        return ResponseEntity.ok(ApiResponse.ok(build));
+    }
+
+    @Operation(summary = "견적 생성")
+    @PostMapping
+    public ResponseEntity<ApiResponse<BuildDetailResponse>> createBuild(
+            @Valid @RequestBody BuildCreateRequest request) {
+        BuildDetailResponse build = buildService.createBuild(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.created(build));
+    }
+
+    @Operation(summary = "견적 수정")
+    @PutMapping("/{buildId}")
+    public ResponseEntity<ApiResponse<BuildDetailResponse>> updateBuild(
+            @PathVariable Long buildId,
+            @Valid @RequestBody BuildUpdateRequest request) {
+        BuildDetailResponse build = buildService.updateBuild(buildId, request);
+        return ResponseEntity.ok(ApiResponse.ok(build));
+    }
+
+    @Operation(summary = "견적 삭제")
+    @DeleteMapping("/{buildId}")
+    public ResponseEntity<ApiResponse<Void>> deleteBuild(@PathVariable Long buildId) {
+        buildService.deleteBuild(buildId);
+        return ResponseEntity.ok(ApiResponse.ok());
+    }
+}
@@ -0,0 +1,19 @@
+package com.jiucom.api.domain.build.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BuildPartRequest {
+
+    @NotNull(message = "부품 ID는 필수입니다.")
+    private Long partId;
+
+    @Min(value = 1, message = "수량은 1 이상이어야 합니다.")
+    @Max(value = 8, message = "수량은 8 이하여야 합니다.")
+    private int quantity = 1;
+}
@@ -0,0 +1,32 @@
+package com.jiucom.api.domain.build.dto.response;
+
+import com.jiucom.api.domain.build.entity.BuildPart;
+import com.jiucom.api.domain.part.entity.Part;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BuildPartResponse {
+
+    private Long partId;
+    private String partName;
+    private String category;
+    private String manufacturer;
+    private int quantity;
+    private Integer unitPrice;
+    private Integer lineTotal;
+
+    public static BuildPartResponse from(BuildPart buildPart) {
+        Part part = buildPart.getPart();
+        return BuildPartResponse.builder()
+                .partId(part.getId())
+                .partName(part.getName())
+                .category(part.getCategory().name())
+                .manufacturer(part.getManufacturer())
+                .quantity(buildPart.getQuantity())
+                .unitPrice(buildPart.getUnitPrice())
+                .lineTotal(buildPart.getLineTotal())
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -45,6 +46,7 @@ public class Build extends BaseTimeEntity {
     private int likeCount = 0;
 
     @OneToMany(mappedBy = "build", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<BuildPart> buildParts = new ArrayList<>();
 
@@ -64,6 +66,20 @@ public class Build extends BaseTimeEntity {
         this.totalPrice = totalPrice;
     }
 
+    public void replaceParts(List<BuildPart> parts) {
+        this.buildParts.clear();
+        this.buildParts.addAll(parts);
+        recalculateTotalPrice();
+    }
+
+    public void recalculateTotalPrice() {
+        this.totalPrice = buildParts.stream()
+                .map(BuildPart::getLineTotal)
+                .filter(lineTotal -> lineTotal != null)
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
     public void incrementViewCount() {
         this.viewCount++;
     }
@@ -0,0 +1,42 @@
+package com.jiucom.api.domain.build.entity;
+
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "build_parts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BuildPart extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "build_id", nullable = false)
+    private Build build;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "part_id", nullable = false)
+    private Part part;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int quantity = 1;
+
+    // 담은 시점이 아닌 부품의 현재 최저가 (가격 변동 시 갱신)
+    private Integer unitPrice;
+
+    public void updateUnitPrice(Integer unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Integer getLineTotal() {
+        return unitPrice != null ? unitPrice * quantity : null;
+    }
+}
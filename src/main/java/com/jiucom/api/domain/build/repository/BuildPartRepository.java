@@ -0,0 +1,32 @@
+package com.jiucom.api.domain.build.repository;
+
+import com.jiucom.api.domain.build.entity.BuildPart;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BuildPartRepository extends JpaRepository<BuildPart, Long> {
+
+    /**
+     * 역색인 조회 (part_id → build_id), idx_build_parts_part_build 로 커버된다.
+     * @return [partId, buildId]
+     */
+    @Query("SELECT bp.part.id, bp.build.id FROM BuildPart bp WHERE bp.part.id IN :partIds")
+    List<Object[]> findBuildIdsByPartIds(@Param("partIds") Collection<Long> partIds);
+
+    // 추천 - 삭제되지 않은 견적에 담은 부품 (견적마다 1회)
+    @Query("SELECT bp.part.id FROM BuildPart bp WHERE bp.build.user.id = :userId AND bp.build.isDeleted = false")
+    List<Long> findPartIdsByUserId(@Param("userId") Long userId);
+
+    // [userId, partId] - 추천 행렬 재계산용
+    @Query("SELECT bp.build.user.id, bp.part.id FROM BuildPart bp WHERE bp.build.isDeleted = false")
+    List<Object[]> findAllUserPartIds();
+
+    @Modifying
+    @Query("UPDATE BuildPart bp SET bp.unitPrice = :newPrice WHERE bp.part.id = :partId")
+    int updateUnitPrice(@Param("partId") Long partId, @Param("newPrice") int newPrice);
+}
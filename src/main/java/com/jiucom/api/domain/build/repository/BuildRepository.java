@@ -0,0 +1,34 @@
+package com.jiucom.api.domain.build.repository;
+
+import com.jiucom.api.domain.build.entity.Build;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface BuildRepository extends JpaRepository<Build, Long>, BuildRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE Build b SET b.viewCount = b.viewCount + 1 WHERE b.id = :buildId")
+    void incrementViewCount(@Param("buildId") Long buildId);
+
+    @EntityGraph(attributePaths = "user")
+    Page<Build> findByIsPublicTrueAndIsDeletedFalse(Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    Page<Build> findByUserIdAndIsDeletedFalse(Long userId, Pageable pageable);
+
+    /**
+     * 지정한 견적들의 총액을 build_parts 단가 × 수량 합계로 다시 계산한다.
+     */
+    @Modifying
+    @Query("UPDATE Build b SET b.totalPrice = " +
+            "(SELECT COALESCE(SUM(bp.unitPrice * bp.quantity), 0) FROM BuildPart bp WHERE bp.build = b) " +
+            "WHERE b.id IN :buildIds")
+    int recalculateTotalPrices(@Param("buildIds") Collection<Long> buildIds);
+}
@@ -0,0 +1,10 @@
+package com.jiucom.api.domain.build.repository;
+
+import com.jiucom.api.domain.build.entity.Build;
+
+import java.util.List;
+
+public interface BuildRepositoryCustom {
+
+    List<Build> searchBuilds(String keyword, int limit);
+}
@@ -0,0 +1,37 @@
+package com.jiucom.api.domain.build.repository;
+
+import com.jiucom.api.domain.build.entity.Build;
+import com.jiucom.api.domain.build.entity.QBuild;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BuildRepositoryCustomImpl implements BuildRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Build> searchBuilds(String keyword, int limit) {
+        QBuild build = QBuild.build;
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(build.isPublic.eq(true));
+        builder.and(build.isDeleted.eq(false));
+
+        if (keyword != null && !keyword.isBlank()) {
+            builder.and(build.name.containsIgnoreCase(keyword)
+                    .or(build.description.containsIgnoreCase(keyword)));
+        }
+
+        return queryFactory.selectFrom(build)
+                .join(build.user).fetchJoin()
+                .where(builder)
+                .orderBy(build.likeCount.desc(), build.createdAt.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,97 @@
+package com.jiucom.api.domain.build.service;
+
+import com.jiucom.api.domain.build.repository.BuildPartRepository;
+import com.jiucom.api.domain.build.repository.BuildRepository;
+import com.jiucom.api.domain.part.event.PartPriceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 부품 최저가 변동 → 해당 부품을 담은 견적만 총액 재계산.
+ * 발행 측 트랜잭션에서 발생한 변동은 모아 두었다가 커밋 직전에 한 번에 반영한다 (가격 임포트 시 견적 테이블 반복 갱신 방지).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BuildPriceService {
+
+    private static final int RECALCULATE_CHUNK_SIZE = 500;
+
+    private final BuildRepository buildRepository;
+    private final BuildPartRepository buildPartRepository;
+
+    @EventListener
+    @Transactional
+    public void onPartPriceChanged(PartPriceChangedEvent event) {
+        Integer newPrice = event.getNewLowestPrice();
+        if (newPrice == null || Objects.equals(event.getOldLowestPrice(), newPrice)) {
+            return;
+        }
+
+        PendingPriceChanges pending =
+                (PendingPriceChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingPriceChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.prices.put(event.getPartId(), newPrice);
+    }
+
+    /**
+     * partId → 새 최저가. 역색인으로 영향받는 견적만 찾아 단가 갱신 후 총액을 청크 단위로 재계산한다.
+     */
+    @Transactional
+    public int applyPriceChanges(Map<Long, Integer> prices) {
+        if (prices.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> affectedParts = new HashSet<>();
+        Set<Long> affectedBuilds = new LinkedHashSet<>();
+        for (Object[] row : buildPartRepository.findBuildIdsByPartIds(prices.keySet())) {
+            affectedParts.add((Long) row[0]);
+            affectedBuilds.add((Long) row[1]);
+        }
+        if (affectedBuilds.isEmpty()) {
+            return 0;
+        }
+
+        for (Long partId : affectedParts) {
+            buildPartRepository.updateUnitPrice(partId, prices.get(partId));
+        }
+
+        List<Long> buildIds = new ArrayList<>(affectedBuilds);
+        for (int i = 0; i < buildIds.size(); i += RECALCULATE_CHUNK_SIZE) {
+            buildRepository.recalculateTotalPrices(
+                    buildIds.subList(i, Math.min(i + RECALCULATE_CHUNK_SIZE, buildIds.size())));
+        }
+
+        log.debug("Build totals recalculated: {} parts changed, {} builds affected",
+                affectedParts.size(), buildIds.size());
+        return buildIds.size();
+    }
+
+    private class PendingPriceChanges implements TransactionSynchronization {
+
+        private final Map<Long, Integer> prices = new LinkedHashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            applyPriceChanges(prices);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BuildPriceService.this);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.jiucom.api.domain.build.service;
+
+import com.jiucom.api.domain.build.dto.request.BuildCreateRequest;
+import com.jiucom.api.domain.build.dto.request.BuildPartRequest;
+import com.jiucom.api.domain.build.dto.request.BuildUpdateRequest;
+import com.jiucom.api.domain.build.dto.response.BuildDetailResponse;
+import com.jiucom.api.domain.build.dto.response.BuildListResponse;
+import com.jiucom.api.domain.build.entity.Build;
+import com.jiucom.api.domain.build.entity.BuildPart;
+import com.jiucom.api.domain.build.repository.BuildRepository;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.event.PartInterestChangedEvent;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.user.entity.User;
+import com.jiucom.api.domain.user.repository.UserRepository;
+import com.jiucom.api.global.exception.GlobalException;
+import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BuildService {
+
+    private final BuildRepository buildRepository;
+    private final PartRepository partRepository;
+    private final UserRepository userRepository;
+    private final CompatibilityService compatibilityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Page<BuildListResponse> getPublicBuilds(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return buildRepository.findByIsPublicTrueAndIsDeletedFalse(pageable)
+                .map(BuildListResponse::from);
+    }
+
+    public Page<BuildListResponse> getMyBuilds(int page, int size) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return buildRepository.findByUserIdAndIsDeletedFalse(userId, pageable)
+                .map(BuildListResponse::from);
+    }
+
+    @Transactional
+    public BuildDetailResponse getBuildDetail(Long buildId) {
+        Build build = buildRepository.findById(buildId)
+                .filter(b -> !b.isDeleted())
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.BUILD_NOT_FOUND));
+
+        // 비공개 견적은 작성자에게만 노출
+        if (!build.isPublic() && !build.getUser().getId().equals(currentUserIdOrNull())) {
+            throw new GlobalException(GlobalErrorCode.BUILD_NOT_FOUND);
+        }
+
+        buildRepository.incrementViewCount(buildId);
+        return BuildDetailResponse.from(build, compatibilityService.check(build.getBuildParts()));
+    }
+
+    @Transactional
+    public BuildDetailResponse createBuild(BuildCreateRequest request) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.USER_NOT_FOUND));
+
+        Build build = Build.builder()
+                .user(user)
+                .name(request.getName())
+                .description(request.getDescription())
+                .isPublic(request.isPublic())
+                .build();
+        build.replaceParts(toBuildParts(build, request.getParts()));
+
+        buildRepository.save(build);
+        eventPublisher.publishEvent(PartInterestChangedEvent.added(userId, partIdsOf(build)));
+        return BuildDetailResponse.from(build, compatibilityService.check(build.getBuildParts()));
+    }
+
+    @Transactional
+    public BuildDetailResponse updateBuild(Long buildId, BuildUpdateRequest request) {
+        Build build = getOwnedBuild(buildId);
+
+        if (request.getName() != null) {
+            build.updateName(request.getName());
+        }
+        if (request.getDescription() != null) {
+            build.updateDescription(request.getDescription());
+        }
+        if (request.getIsPublic() != null) {
+            build.updateIsPublic(request.getIsPublic());
+        }
+        if (request.getParts() != null) {
+            Set<Long> before = partIdsOf(build);
+            build.replaceParts(toBuildParts(build, request.getParts()));
+            Set<Long> after = partIdsOf(build);
+
+            Set<Long> added = new HashSet<>(after);
+            added.removeAll(before);
+            before.removeAll(after);
+            if (!added.isEmpty() || !before.isEmpty()) {
+                eventPublisher.publishEvent(new PartInterestChangedEvent(build.getUser().getId(), added, before));
+            }
+        }
+
+        return BuildDetailResponse.from(build, compatibilityService.check(build.getBuildParts()));
+    }
+
+    @Transactional
+    public void deleteBuild(Long buildId) {
+        Build build = getOwnedBuild(buildId);
+        build.softDelete();
+        eventPublisher.publishEvent(PartInterestChangedEvent.removed(build.getUser().getId(), partIdsOf(build)));
+    }
+
+    private Build getOwnedBuild(Long buildId) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        Build build = buildRepository.findById(buildId)
+                .filter(b -> !b.isDeleted())
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.BUILD_NOT_FOUND));
+
+        if (!build.getUser().getId().equals(userId)) {
+            throw new GlobalException(GlobalErrorCode.BUILD_NOT_OWNER);
+        }
+        return build;
+    }
+
+    private List<BuildPart> toBuildParts(Build build, List<BuildPartRequest> requests) {
+        // 같은 부품이 여러 번 오면 수량을 합친다
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (BuildPartRequest request : requests) {
+            quantities.merge(request.getPartId(), request.getQuantity(), Integer::sum);
+        }
+
+        Map<Long, Part> parts = partRepository.findAllById(quantities.keySet()).stream()
+                .filter(p -> !p.isDeleted())
+                .collect(Collectors.toMap(Part::getId, Function.identity()));
+        if (parts.size() != quantities.size()) {
+            throw new GlobalException(GlobalErrorCode.PART_NOT_FOUND);
+        }
+
+        return quantities.entrySet().stream()
+                .map(entry -> {
+                    Part part = parts.get(entry.getKey());
+                    return BuildPart.builder()
+                            .build(build)
+                            .part(part)
+                            .quantity(entry.getValue())
+                            .unitPrice(part.getLowestPrice())
+                            .build();
+                })
+                .toList();
+    }
+
+    private Set<Long> partIdsOf(Build build) {
+        return build.getBuildParts().stream()
+                .map(buildPart -> buildPart.getPart().getId())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Long currentUserIdOrNull() {
+        try {
+            return SecurityUtil.getCurrentUserId();
+        } catch (GlobalException ignored) {
+            // anonymous user
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.jiucom.api.domain.build.service;
+
+import com.jiucom.api.domain.build.entity.BuildPart;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.service.PartSpecService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+import static com.jiucom.api.domain.part.service.PartSpecExtractor.*;
+
+/**
+ * 견적 부품 호환성 검사. part_specs 에 미리 정규화된 facet 만 읽는다 (specs JSON 재파싱 없음).
+ */
+@Service
+@RequiredArgsConstructor
+public class CompatibilityService {
+
+    // 메인보드/CPU/GPU 외 나머지 부품 소비전력 여유분
+    private static final int BASE_POWER_WATT = 100;
+    private static final double PSU_HEADROOM = 1.2;
+
+    private static final List<String> FORM_FACTOR_ORDER = List.of("MINI-ITX", "M-ATX", "ATX", "E-ATX");
+
+    private final PartSpecService partSpecService;
+
+    public List<String> check(List<BuildPart> buildParts) {
+        Map<Long, Map<String, String>> specMaps = partSpecService.getSpecMaps(
+                buildParts.stream().map(bp -> bp.getPart().getId()).toList());
+
+        Map<PartCategory, List<BuildPart>> byCategory = new EnumMap<>(PartCategory.class);
+        for (BuildPart buildPart : buildParts) {
+            byCategory.computeIfAbsent(buildPart.getPart().getCategory(), c -> new ArrayList<>()).add(buildPart);
+        }
+
+        List<String> warnings = new ArrayList<>();
+        Part cpu = first(byCategory, PartCategory.CPU);
+        Part motherboard = first(byCategory, PartCategory.MOTHERBOARD);
+        Part psu = first(byCategory, PartCategory.POWER_SUPPLY);
+        Part pcCase = first(byCategory, PartCategory.CASE);
+
+        // 1. CPU ↔ 메인보드 소켓
+        if (cpu != null && motherboard != null) {
+            String cpuSocket = spec(specMaps, cpu, SOCKET);
+            String boardSocket = spec(specMaps, motherboard, SOCKET);
+            if (cpuSocket != null && boardSocket != null && !cpuSocket.equals(boardSocket)) {
+                warnings.add(String.format("CPU 소켓(%s)과 메인보드 소켓(%s)이 일치하지 않습니다.", cpuSocket, boardSocket));
+            }
+        }
+
+        // 2. RAM ↔ 메인보드 메모리 규격
+        if (motherboard != null) {
+            String boardMemory = spec(specMaps, motherboard, MEMORY_TYPE);
+            for (BuildPart ram : byCategory.getOrDefault(PartCategory.RAM, List.of())) {
+                String ramMemory = spec(specMaps, ram.getPart(), MEMORY_TYPE);
+                if (boardMemory != null && ramMemory != null && !boardMemory.equals(ramMemory)) {
+                    warnings.add(String.format("메모리 규격(%s)이 메인보드 지원 규격(%s)과 다릅니다.", ramMemory, boardMemory));
+                    break;
+                }
+            }
+        }
+
+        // 3. 파워 용량 (CPU + GPU TDP 합산 기준)
+        if (psu != null) {
+            Integer psuWatt = parseInt(spec(specMaps, psu, WATTAGE));
+            int requiredWatt = estimatePowerDraw(byCategory, specMaps);
+            if (psuWatt != null && requiredWatt > BASE_POWER_WATT && psuWatt < requiredWatt * PSU_HEADROOM) {
+                warnings.add(String.format("파워 용량(%dW)이 예상 소비전력(%dW) 대비 부족할 수 있습니다.", psuWatt, requiredWatt));
+            }
+        }
+
+        // 4. 케이스 ↔ 메인보드 폼팩터
+        if (pcCase != null && motherboard != null) {
+            int caseRank = FORM_FACTOR_ORDER.indexOf(spec(specMaps, pcCase, FORM_FACTOR));
+            int boardRank = FORM_FACTOR_ORDER.indexOf(spec(specMaps, motherboard, FORM_FACTOR));
+            if (caseRank >= 0 && boardRank >= 0 && boardRank > caseRank) {
+                warnings.add(String.format("메인보드(%s)가 케이스 지원 규격(%s)보다 큽니다.",
+                        FORM_FACTOR_ORDER.get(boardRank), FORM_FACTOR_ORDER.get(caseRank)));
+            }
+        }
+
+        return warnings;
+    }
+
+    private int estimatePowerDraw(Map<PartCategory, List<BuildPart>> byCategory,
+                                  Map<Long, Map<String, String>> specMaps) {
+        int watt = BASE_POWER_WATT;
+        for (PartCategory category : List.of(PartCategory.CPU, PartCategory.GPU)) {
+            for (BuildPart buildPart : byCategory.getOrDefault(category, List.of())) {
+                Integer tdp = parseInt(spec(specMaps, buildPart.getPart(), TDP));
+                if (tdp != null) {
+                    watt += tdp * buildPart.getQuantity();
+                }
+            }
+        }
+        return watt;
+    }
+
+    private Part first(Map<PartCategory, List<BuildPart>> byCategory, PartCategory category) {
+        List<BuildPart> parts = byCategory.get(category);
+        return parts != null ? parts.get(0).getPart() : null;
+    }
+
+    private String spec(Map<Long, Map<String, String>> specMaps, Part part, String key) {
+        return specMaps.getOrDefault(part.getId(), Map.of()).get(key);
+    }
+
+    private Integer parseInt(String value) {
+        if (value == null) return null;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
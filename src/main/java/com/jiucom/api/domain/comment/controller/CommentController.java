@@ -5,6 +5,8 @@ import com.jiucom.api.domain.comment.dto.request.CommentUpdateRequest;
 import com.jiucom.api.domain.comment.dto.response.CommentListResponse;
 import com.jiucom.api.domain.comment.dto.response.CommentResponse;
 import com.jiucom.api.domain.comment.service.CommentService;
+import com.jiucom.api.global.etag.ConditionalGet;
+import com.jiucom.api.global.etag.EtagResource;
 import com.jiucom.api.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +25,7 @@ public class CommentController {
 
     @Operation(summary = "댓글 목록 조회")
     @GetMapping("/posts/{postId}/comments")
+    @ConditionalGet(value = EtagResource.COMMENT_LIST, idVariable = "postId")
     public ResponseEntity<ApiResponse<CommentListResponse>> getComments(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
@@ -3,15 +3,20 @@ package com.jiucom.api.domain.comment.repository;
 import com.jiucom.api.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findByPostIdAndIsDeletedFalse(Long postId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "author")
     Page<Comment> findByPostIdAndParentIsNullAndIsDeletedFalse(Long postId, Pageable pageable);
 
-    List<Comment> findByParentIdAndIsDeletedFalseOrderByCreatedAtAsc(Long parentId);
+    // 페이지의 루트 댓글 전체 답글을 한 번에 (루트 댓글마다 조회하지 않도록)
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findByParentIdInAndIsDeletedFalseOrderByCreatedAtAsc(Collection<Long> parentIds);
 }
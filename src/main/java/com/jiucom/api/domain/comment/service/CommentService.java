@@ -9,6 +9,7 @@ import com.jiucom.api.domain.comment.repository.CommentRepository;
 import com.jiucom.api.domain.notification.entity.enums.NotificationType;
 import com.jiucom.api.domain.notification.service.NotificationService;
 import com.jiucom.api.domain.post.entity.Post;
+import com.jiucom.api.domain.post.event.PostEngagementEvent;
 import com.jiucom.api.domain.post.repository.PostRepository;
 import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.repository.UserRepository;
@@ -16,7 +17,9 @@ import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
 import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.SecurityUtil;
+import com.jiucom.api.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +27,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +42,7 @@ public class CommentService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentListResponse getComments(Long postId, int page, int size) {
         // Check cache
@@ -47,15 +54,10 @@ public class CommentService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "createdAt"));
         Page<Comment> rootComments = commentRepository.findByPostIdAndParentIsNullAndIsDeletedFalse(postId, pageable);
 
+        Map<Long, List<CommentResponse>> repliesByParent = loadReplies(rootComments.getContent());
         List<CommentResponse> commentResponses = rootComments.getContent().stream()
-                .map(comment -> {
-                    List<CommentResponse> replies = commentRepository
-                            .findByParentIdAndIsDeletedFalseOrderByCreatedAtAsc(comment.getId())
-                            .stream()
-                            .map(CommentResponse::from)
-                            .toList();
-                    return CommentResponse.of(comment, replies);
-                })
+                .map(comment -> CommentResponse.of(
+                        comment, repliesByParent.getOrDefault(comment.getId(), List.of())))
                 .toList();
 
         CommentListResponse response = CommentListResponse.builder()
@@ -97,10 +99,13 @@ public class CommentService {
 
         commentRepository.save(comment);
         post.incrementCommentCount();
+        eventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementEvent.Type.COMMENT, 1));
 
-        // Invalidate caches
-        redisUtil.evictCommentListsForPost(postId);
-        redisUtil.evictPostDetail(postId);
+        // Invalidate caches (after commit)
+        TransactionUtil.afterCommit(() -> {
+            redisUtil.evictCommentListsForPost(postId);
+            redisUtil.evictPostDetail(postId);
+        });
 
         // Send notification to post author (if not self-comment)
         if (!post.getAuthor().getId().equals(userId)) {
@@ -127,9 +132,9 @@ public class CommentService {
 
         comment.updateContent(request.getContent());
 
-        // Invalidate caches
+        // Invalidate caches (after commit)
         Long postId = comment.getPost().getId();
-        redisUtil.evictCommentListsForPost(postId);
+        TransactionUtil.afterCommit(() -> redisUtil.evictCommentListsForPost(postId));
 
         return CommentResponse.from(comment);
     }
@@ -149,9 +154,22 @@ public class CommentService {
 
         comment.softDelete();
         comment.getPost().decrementCommentCount();
+        eventPublisher.publishEvent(PostEngagementEvent.of(comment.getPost(), PostEngagementEvent.Type.COMMENT, -1));
 
-        // Invalidate caches
-        redisUtil.evictCommentListsForPost(postId);
-        redisUtil.evictPostDetail(postId);
+        // Invalidate caches (after commit)
+        TransactionUtil.afterCommit(() -> {
+            redisUtil.evictCommentListsForPost(postId);
+            redisUtil.evictPostDetail(postId);
+        });
+    }
+
+    private Map<Long, List<CommentResponse>> loadReplies(List<Comment> rootComments) {
+        if (rootComments.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> parentIds = rootComments.stream().map(Comment::getId).toList();
+        return commentRepository.findByParentIdInAndIsDeletedFalseOrderByCreatedAtAsc(parentIds).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getId(), LinkedHashMap::new,
+                        Collectors.mapping(CommentResponse::from, Collectors.toList())));
     }
 }
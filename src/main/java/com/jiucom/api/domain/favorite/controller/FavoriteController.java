@@ -1,6 +1,7 @@
 package com.jiucom.api.domain.favorite.controller;
 
 import com.jiucom.api.domain.favorite.dto.response.FavoriteResponse;
+import com.jiucom.api.domain.favorite.dto.response.FavoriteStatusResponse;
 import com.jiucom.api.domain.favorite.service.FavoriteService;
 import com.jiucom.api.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Favorite", description = "관심상품 API")
 @RestController
 @RequestMapping("/favorites")
@@ -28,6 +31,13 @@ public class FavoriteController {
         return ResponseEntity.ok(ApiResponse.ok(favorites));
     }
 
+    @Operation(summary = "관심상품 여부 일괄 조회", description = "목록 페이지용 - partIds 최대 100개")
+    @GetMapping("/parts/status")
+    public ResponseEntity<ApiResponse<List<FavoriteStatusResponse>>> getFavoriteStatuses(
+            @RequestParam List<Long> partIds) {
+        return ResponseEntity.ok(ApiResponse.ok(favoriteService.getFavoriteStatuses(partIds)));
+    }
+
     @Operation(summary = "관심상품 추가")
     @PostMapping("/parts/{partId}")
     public ResponseEntity<ApiResponse<Void>> addFavorite(@PathVariable Long partId) {
@@ -0,0 +1,13 @@
+package com.jiucom.api.domain.favorite.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class FavoriteStatusResponse {
+    private Long partId;
+    private boolean favorite;
+}
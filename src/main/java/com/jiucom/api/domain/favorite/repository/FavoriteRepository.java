@@ -4,15 +4,32 @@ import com.jiucom.api.domain.favorite.entity.Favorite;
 import com.jiucom.api.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
+    @EntityGraph(attributePaths = "part")
     Page<Favorite> findByUser(User user, Pageable pageable);
 
     Optional<Favorite> findByUserIdAndPartId(Long userId, Long partId);
 
     boolean existsByUserIdAndPartId(Long userId, Long partId);
+
+    @Query("SELECT f.part.id FROM Favorite f WHERE f.user.id = :userId AND f.part.id IN :partIds")
+    List<Long> findFavoritePartIds(@Param("userId") Long userId, @Param("partIds") Collection<Long> partIds);
+
+    // 추천 - 사용자 관심 부품 (PartRecommendationService)
+    @Query("SELECT f.part.id FROM Favorite f WHERE f.user.id = :userId")
+    List<Long> findPartIdsByUserId(@Param("userId") Long userId);
+
+    // [userId, partId] - 추천 행렬 재계산용
+    @Query("SELECT f.user.id, f.part.id FROM Favorite f")
+    List<Object[]> findAllUserPartIds();
 }
@@ -1,9 +1,11 @@
 package com.jiucom.api.domain.favorite.service;
 
 import com.jiucom.api.domain.favorite.dto.response.FavoriteResponse;
+import com.jiucom.api.domain.favorite.dto.response.FavoriteStatusResponse;
 import com.jiucom.api.domain.favorite.entity.Favorite;
 import com.jiucom.api.domain.favorite.repository.FavoriteRepository;
 import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.event.PartInterestChangedEvent;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.repository.UserRepository;
@@ -11,6 +13,7 @@ import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
 import com.jiucom.api.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,14 +21,22 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FavoriteService {
 
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final FavoriteRepository favoriteRepository;
     private final PartRepository partRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<FavoriteResponse> getMyFavorites(int page, int size) {
         Long userId = SecurityUtil.getCurrentUserId();
@@ -57,6 +68,7 @@ public class FavoriteService {
                 .build();
 
         favoriteRepository.save(favorite);
+        eventPublisher.publishEvent(PartInterestChangedEvent.added(userId, List.of(partId)));
     }
 
     @Transactional
@@ -65,10 +77,29 @@ public class FavoriteService {
         Favorite favorite = favoriteRepository.findByUserIdAndPartId(userId, partId)
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.RESOURCE_NOT_FOUND));
         favoriteRepository.delete(favorite);
+        eventPublisher.publishEvent(PartInterestChangedEvent.removed(userId, List.of(partId)));
     }
 
     public boolean isFavorite(Long partId) {
         Long userId = SecurityUtil.getCurrentUserId();
         return favoriteRepository.existsByUserIdAndPartId(userId, partId);
     }
+
+    // 목록 페이지용 일괄 조회 - IN 쿼리 1회
+    public List<FavoriteStatusResponse> getFavoriteStatuses(List<Long> partIds) {
+        List<Long> ids = partIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new GlobalException(GlobalErrorCode.INVALID_INPUT);
+        }
+        if (ids.isEmpty()) return List.of();
+
+        Long userId = SecurityUtil.getCurrentUserId();
+        Set<Long> favoriteIds = new HashSet<>(favoriteRepository.findFavoritePartIds(userId, ids));
+        return ids.stream()
+                .map(id -> FavoriteStatusResponse.builder()
+                        .partId(id)
+                        .favorite(favoriteIds.contains(id))
+                        .build())
+                .toList();
+    }
 }
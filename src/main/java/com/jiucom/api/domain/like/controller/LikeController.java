@@ -1,6 +1,7 @@
 package com.jiucom.api.domain.like.controller;
 
 import com.jiucom.api.domain.like.dto.response.LikeResponse;
+import com.jiucom.api.domain.like.dto.response.LikeStatusResponse;
 import com.jiucom.api.domain.like.entity.enums.LikeTargetType;
 import com.jiucom.api.domain.like.service.LikeService;
 import com.jiucom.api.global.response.ApiResponse;
@@ -10,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/likes")
 @RequiredArgsConstructor
@@ -33,4 +36,12 @@ public class LikeController {
             @PathVariable Long targetId) {
         return ResponseEntity.ok(ApiResponse.ok(likeService.getLikeStatus(targetType, targetId)));
     }
+
+    @GetMapping("/{targetType}")
+    @Operation(summary = "좋아요 상태 일괄 조회", description = "목록 페이지용 - targetIds(최대 100개)의 좋아요 여부 + 좋아요 수")
+    public ResponseEntity<ApiResponse<List<LikeStatusResponse>>> getLikeStatuses(
+            @PathVariable LikeTargetType targetType,
+            @RequestParam List<Long> targetIds) {
+        return ResponseEntity.ok(ApiResponse.ok(likeService.getLikeStatuses(targetType, targetIds)));
+    }
 }
@@ -0,0 +1,14 @@
+package com.jiucom.api.domain.like.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class LikeStatusResponse {
+    private Long targetId;
+    private boolean liked;
+    private long likeCount;
+}
@@ -18,7 +18,9 @@ import lombok.*;
 public class ContentLike extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "content_likes_id")
+    @TableGenerator(name = "content_likes_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "content_likes", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
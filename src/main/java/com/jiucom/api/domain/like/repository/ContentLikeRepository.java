@@ -3,7 +3,11 @@ package com.jiucom.api.domain.like.repository;
 import com.jiucom.api.domain.like.entity.ContentLike;
 import com.jiucom.api.domain.like.entity.enums.LikeTargetType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ContentLikeRepository extends JpaRepository<ContentLike, Long> {
@@ -13,4 +17,16 @@ public interface ContentLikeRepository extends JpaRepository<ContentLike, Long>
     long countByTargetTypeAndTargetId(LikeTargetType targetType, Long targetId);
 
     boolean existsByUserIdAndTargetTypeAndTargetId(Long userId, LikeTargetType targetType, Long targetId);
+
+    // [targetId, likeCount] - 좋아요가 없는 대상은 결과에 없음
+    @Query("SELECT l.targetId, COUNT(l) FROM ContentLike l " +
+            "WHERE l.targetType = :targetType AND l.targetId IN :targetIds GROUP BY l.targetId")
+    List<Object[]> countByTargetIds(@Param("targetType") LikeTargetType targetType,
+                                    @Param("targetIds") Collection<Long> targetIds);
+
+    @Query("SELECT l.targetId FROM ContentLike l " +
+            "WHERE l.user.id = :userId AND l.targetType = :targetType AND l.targetId IN :targetIds")
+    List<Long> findLikedTargetIds(@Param("userId") Long userId,
+                                  @Param("targetType") LikeTargetType targetType,
+                                  @Param("targetIds") Collection<Long> targetIds);
 }
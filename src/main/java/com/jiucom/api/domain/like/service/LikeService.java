@@ -5,10 +5,12 @@ import com.jiucom.api.domain.build.repository.BuildRepository;
 import com.jiucom.api.domain.comment.entity.Comment;
 import com.jiucom.api.domain.comment.repository.CommentRepository;
 import com.jiucom.api.domain.like.dto.response.LikeResponse;
+import com.jiucom.api.domain.like.dto.response.LikeStatusResponse;
 import com.jiucom.api.domain.like.entity.ContentLike;
 import com.jiucom.api.domain.like.entity.enums.LikeTargetType;
 import com.jiucom.api.domain.like.repository.ContentLikeRepository;
 import com.jiucom.api.domain.post.entity.Post;
+import com.jiucom.api.domain.post.event.PostEngagementEvent;
 import com.jiucom.api.domain.post.repository.PostRepository;
 import com.jiucom.api.domain.review.entity.Review;
 import com.jiucom.api.domain.review.repository.ReviewRepository;
@@ -16,24 +18,31 @@ import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.repository.UserRepository;
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.SecurityUtil;
+import com.jiucom.api.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LikeService {
 
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final ContentLikeRepository contentLikeRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
     private final BuildRepository buildRepository;
+    private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LikeResponse toggleLike(LikeTargetType targetType, Long targetId) {
@@ -61,6 +70,8 @@ public class LikeService {
             updateLikeCount(targetType, targetId, true);
             liked = true;
         }
+        // 커밋 전에 지우면 그 사이 목록 조회가 토글 이전 개수를 TTL 동안 다시 캐시한다
+        TransactionUtil.afterCommit(() -> redisUtil.evictLikeCount(targetType, targetId));
 
         long likeCount = contentLikeRepository.countByTargetTypeAndTargetId(targetType, targetId);
         return LikeResponse.builder()
@@ -88,6 +99,48 @@ public class LikeService {
                 .build();
     }
 
+    /**
+     * 목록 페이지용 일괄 조회. 좋아요 수는 Redis MGET, 미스만 GROUP BY 1회, 좋아요 여부는 IN 1회.
+     * 존재 여부는 검증하지 않는다 (없는 대상은 liked=false, likeCount=0).
+     */
+    public List<LikeStatusResponse> getLikeStatuses(LikeTargetType targetType, List<Long> targetIds) {
+        List<Long> ids = targetIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new GlobalException(GlobalErrorCode.INVALID_INPUT);
+        }
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, Long> likeCounts = new HashMap<>(redisUtil.getLikeCounts(targetType, ids));
+        List<Long> misses = ids.stream().filter(id -> !likeCounts.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            Map<Long, Long> loaded = new HashMap<>();
+            misses.forEach(id -> loaded.put(id, 0L));
+            for (Object[] row : contentLikeRepository.countByTargetIds(targetType, misses)) {
+                loaded.put((Long) row[0], (Long) row[1]);
+            }
+            redisUtil.cacheLikeCounts(targetType, loaded);
+            likeCounts.putAll(loaded);
+        }
+
+        Set<Long> likedIds = Set.of();
+        try {
+            Long userId = SecurityUtil.getCurrentUserId();
+            likedIds = new HashSet<>(contentLikeRepository.findLikedTargetIds(userId, targetType, ids));
+        } catch (GlobalException ignored) {
+            // anonymous user
+        }
+
+        List<LikeStatusResponse> responses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            responses.add(LikeStatusResponse.builder()
+                    .targetId(id)
+                    .liked(likedIds.contains(id))
+                    .likeCount(likeCounts.get(id))
+                    .build());
+        }
+        return responses;
+    }
+
     private void validateTargetExists(LikeTargetType targetType, Long targetId) {
         boolean exists = switch (targetType) {
             case POST -> postRepository.existsById(targetId);
@@ -106,6 +159,7 @@ public class LikeService {
                 Post post = postRepository.findById(targetId).orElseThrow();
                 if (increment) post.incrementLikeCount();
                 else post.decrementLikeCount();
+                eventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementEvent.Type.LIKE, increment ? 1 : -1));
             }
             case COMMENT -> {
                 Comment comment = commentRepository.findById(targetId).orElseThrow();
@@ -1,14 +1,18 @@
 package com.jiucom.api.domain.notification.repository;
 
 import com.jiucom.api.domain.notification.entity.Notification;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -17,9 +21,43 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     long countByUserIdAndIsReadFalseAndIsDeletedFalse(Long userId);
 
+    // [userId, unreadCount] - 읽지 않은 알림이 없는 사용자는 결과에 없음
+    @Query("SELECT n.user.id, COUNT(n) FROM Notification n " +
+            "WHERE n.user.id IN :userIds AND n.isRead = false AND n.isDeleted = false GROUP BY n.user.id")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false AND n.isDeleted = false")
-    void markAllAsReadByUserId(@Param("userId") Long userId);
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    // ---- cleanup (NotificationPurgeService): bounded chunks, no entity loading ----
+    // native DML 은 query space 를 선언해야 한다 - 없으면 Hibernate 가 모든 테이블 변경으로 보고 2차 캐시 전체를 비운다
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notifications"))
+    @Query(value = "UPDATE notifications SET is_deleted = true, deleted_at = :now " +
+            "WHERE is_read = true AND is_deleted = false AND created_at < :before LIMIT :limit", nativeQuery = true)
+    int softDeleteReadBefore(@Param("before") LocalDateTime before,
+                             @Param("now") LocalDateTime now,
+                             @Param("limit") int limit);
 
-    List<Notification> findByIsReadTrueAndIsDeletedFalseAndCreatedAtBefore(LocalDateTime before);
+    @Query(value = "SELECT id FROM notifications WHERE is_deleted = true AND deleted_at < :before " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notifications"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notifications_archive")
+    })
+    @Query(value = "INSERT INTO notifications_archive " +
+            "(id, user_id, type, title, message, link_url, is_read, created_at, deleted_at, archived_at) " +
+            "SELECT id, user_id, type, title, message, link_url, is_read, created_at, deleted_at, :now " +
+            "FROM notifications WHERE id IN (:ids)", nativeQuery = true)
+    int archiveByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notifications"))
+    @Query(value = "DELETE FROM notifications WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
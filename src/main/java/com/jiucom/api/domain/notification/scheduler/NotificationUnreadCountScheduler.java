@@ -0,0 +1,24 @@
+package com.jiucom.api.domain.notification.scheduler;
+
+import com.jiucom.api.domain.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCountScheduler {
+
+    private final NotificationService notificationService;
+
+    @Scheduled(fixedDelayString = "${notification.unread-count.reconcile-interval-ms:600000}",
+            initialDelayString = "${notification.unread-count.reconcile-interval-ms:600000}")
+    public void reconcileUnreadCounts() {
+        int corrected = notificationService.reconcileUnreadCounts();
+        if (corrected > 0) {
+            log.info("Unread notification counters reconciled: {} corrected", corrected);
+        }
+    }
+}
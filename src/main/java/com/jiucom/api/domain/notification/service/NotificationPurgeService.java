@@ -0,0 +1,131 @@
+package com.jiucom.api.domain.notification.service;
+
+import com.jiucom.api.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 정리 작업. 엔티티를 로딩하지 않고 청크 단위 UPDATE/DELETE 를 각각 별도 트랜잭션으로 실행한다.
+ * 1) 읽은 지 오래된 알림 soft delete  2) soft delete 후 보관 기간이 지난 알림 archive 이동 + 물리 삭제
+ */
+@Slf4j
+@Service
+public class NotificationPurgeService {
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter softDeletedCounter;
+    private final Counter archivedCounter;
+    private final Timer purgeTimer;
+
+    @Value("${notification.cleanup.read-retention-days:30}")
+    private int readRetentionDays;
+
+    @Value("${notification.cleanup.archive-after-days:60}")
+    private int archiveAfterDays;
+
+    @Value("${notification.cleanup.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notification.cleanup.throttle-ms:200}")
+    private long throttleMs;
+
+    public NotificationPurgeService(NotificationRepository notificationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.softDeletedCounter = Counter.builder("jiucom.notifications.cleanup.rows")
+                .description("Notifications processed by the cleanup job")
+                .tag("stage", "soft_delete")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("jiucom.notifications.cleanup.rows")
+                .description("Notifications processed by the cleanup job")
+                .tag("stage", "archive")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("jiucom.notifications.cleanup.duration")
+                .description("Notification cleanup job duration")
+                .register(meterRegistry);
+    }
+
+    public void purge() {
+        purgeTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            long softDeleted = softDeleteOldRead(now.minusDays(readRetentionDays));
+            long archived = archiveDeleted(now.minusDays(archiveAfterDays));
+            log.info("Notification cleanup completed: soft-deleted {}, archived {}", softDeleted, archived);
+        });
+    }
+
+    long softDeleteOldRead(LocalDateTime before) {
+        long total = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status ->
+                    notificationRepository.softDeleteReadBefore(before, LocalDateTime.now(), chunkSize));
+            if (updated == null || updated == 0) {
+                break;
+            }
+            total += updated;
+            softDeletedCounter.increment(updated);
+            logProgress("soft-delete", total);
+            if (updated < chunkSize || !throttle()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    long archiveDeleted(LocalDateTime before) {
+        long total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = notificationRepository.findPurgeableIds(before, chunkSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                notificationRepository.archiveByIds(ids, LocalDateTime.now());
+                return notificationRepository.deleteByIds(ids);
+            });
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            archivedCounter.increment(moved);
+            logProgress("archive", total);
+            if (moved < chunkSize || !throttle()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void logProgress(String stage, long total) {
+        if (total % (chunkSize * 10L) < chunkSize) {
+            log.info("Notification cleanup [{}] progress: {} rows", stage, total);
+        }
+    }
+
+    // 청크 사이 잠시 쉬어 복제 지연/락 경합을 줄인다
+    private boolean throttle() {
+        if (throttleMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Notification cleanup interrupted");
+            return false;
+        }
+    }
+}
@@ -9,7 +9,9 @@ import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.repository.UserRepository;
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.SecurityUtil;
+import com.jiucom.api.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,15 +21,20 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final RedisUtil redisUtil;
 
     public Page<NotificationResponse> getNotifications(int page, int size) {
         Long userId = SecurityUtil.getCurrentUserId();
@@ -38,8 +45,11 @@ public class NotificationService {
 
     public NotificationCountResponse getUnreadCount() {
         Long userId = SecurityUtil.getCurrentUserId();
-        long count = notificationRepository.countByUserIdAndIsReadFalseAndIsDeletedFalse(userId);
-        return NotificationCountResponse.of(count);
+        Long cached = redisUtil.getUnreadNotificationCount(userId);
+        if (cached != null) {
+            return NotificationCountResponse.of(cached);
+        }
+        return NotificationCountResponse.of(loadUnreadCount(userId));
     }
 
     @Transactional
@@ -53,14 +63,23 @@ public class NotificationService {
             throw new GlobalException(GlobalErrorCode.FORBIDDEN);
         }
 
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            TransactionUtil.afterCommit(() -> adjustUnreadCount(userId, -1));
+        }
         return NotificationResponse.from(notification);
     }
 
     @Transactional
     public void markAllAsRead() {
         Long userId = SecurityUtil.getCurrentUserId();
-        notificationRepository.markAllAsReadByUserId(userId);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        if (updated > 0) {
+            TransactionUtil.afterCommit(() -> {
+                redisUtil.setUnreadNotificationCount(userId, 0);
+                pushUnreadCount(userId, 0);
+            });
+        }
     }
 
     @Transactional
@@ -85,5 +104,62 @@ public class NotificationService {
         } catch (Exception e) {
             log.warn("Failed to send WebSocket notification to user {}: {}", userId, e.getMessage());
         }
+
+        TransactionUtil.afterCommit(() -> adjustUnreadCount(userId, 1));
+    }
+
+    /**
+     * Redis 카운터를 DB 기준으로 보정한다 (Redis 에 카운터가 있는 사용자만). 값이 바뀐 사용자에게는 새 카운트를 push.
+     */
+    public int reconcileUnreadCounts() {
+        List<Long> userIds = new ArrayList<>(redisUtil.getUnreadNotificationCountUserIds());
+        int corrected = 0;
+        for (int i = 0; i < userIds.size(); i += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(i, Math.min(i + RECONCILE_CHUNK_SIZE, userIds.size()));
+            // 청크당 Redis 왕복 2회 (MGET + 파이프라인 SET)
+            Map<Long, Long> cachedCounts = redisUtil.getUnreadNotificationCounts(chunk);
+            if (cachedCounts == null) {
+                continue; // MGET 실패 - 전부 틀린 것으로 보고 덮어쓰거나 push 하지 않는다
+            }
+            Map<Long, Long> actual = new HashMap<>();
+            for (Object[] row : notificationRepository.countUnreadByUserIds(chunk)) {
+                actual.put((Long) row[0], (Long) row[1]);
+            }
+            Map<Long, Long> corrections = new HashMap<>();
+            for (Long userId : chunk) {
+                long count = actual.getOrDefault(userId, 0L);
+                Long cached = cachedCounts.get(userId);
+                if (cached == null || cached != count) {
+                    corrections.put(userId, count);
+                }
+            }
+            redisUtil.setUnreadNotificationCounts(corrections);
+            corrections.forEach(this::pushUnreadCount);
+            corrected += corrections.size();
+        }
+        return corrected;
+    }
+
+    private long loadUnreadCount(Long userId) {
+        long count = notificationRepository.countByUserIdAndIsReadFalseAndIsDeletedFalse(userId);
+        redisUtil.setUnreadNotificationCount(userId, count);
+        return count;
+    }
+
+    private void adjustUnreadCount(Long userId, long delta) {
+        Long count = redisUtil.incrementUnreadNotificationCount(userId, delta);
+        if (count == null) {
+            count = loadUnreadCount(userId);
+        }
+        pushUnreadCount(userId, count);
+    }
+
+    private void pushUnreadCount(Long userId, long count) {
+        try {
+            messagingTemplate.convertAndSend("/queue/notifications/" + userId + "/unread-count",
+                    NotificationCountResponse.of(count));
+        } catch (Exception e) {
+            log.warn("Failed to push unread count to user {}: {}", userId, e.getMessage());
+        }
     }
 }
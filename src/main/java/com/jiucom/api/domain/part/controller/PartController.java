@@ -2,8 +2,13 @@ package com.jiucom.api.domain.part.controller;
 
 import com.jiucom.api.domain.part.dto.request.PartSearchRequest;
 import com.jiucom.api.domain.part.dto.response.PartDetailResponse;
+import com.jiucom.api.domain.part.dto.response.PartFacetResponse;
 import com.jiucom.api.domain.part.dto.response.PartListResponse;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.service.PartRecommendationService;
 import com.jiucom.api.domain.part.service.PartService;
+import com.jiucom.api.global.etag.ConditionalGet;
+import com.jiucom.api.global.etag.EtagResource;
 import com.jiucom.api.global.response.ApiResponse;
 import com.jiucom.api.global.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +27,7 @@ import java.util.List;
 public class PartController {
 
     private final PartService partService;
+    private final PartRecommendationService partRecommendationService;
 
     @Operation(summary = "부품 목록 조회")
     @GetMapping
@@ -33,11 +39,30 @@ public class PartController {
 
     @Operation(summary = "부품 상세 조회")
     @GetMapping("/{partId}")
+    @ConditionalGet(value = EtagResource.PART_DETAIL, idVariable = "partId")
     public ResponseEntity<ApiResponse<PartDetailResponse>> getPart(@PathVariable Long partId) {
         PartDetailResponse response = partService.getPartDetail(partId);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @Operation(summary = "함께 관심 가진 부품", description = "이 부품을 즐겨찾기/가격 알림/견적에 담은 사용자가 함께 담은 부품")
+    @GetMapping("/{partId}/recommendations")
+    public ResponseEntity<ApiResponse<List<PartListResponse>>> getRecommendations(
+            @PathVariable Long partId,
+            @RequestParam(defaultValue = "10") int size) {
+        List<PartListResponse> response = partRecommendationService.getRecommendations(partId, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "부품 스펙 facet 조회", description = "카테고리별 스펙 값과 부품 수 (specs=key:value 로 선택된 facet 반영)")
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<List<PartFacetResponse>>> getFacets(
+            @RequestParam PartCategory category,
+            @RequestParam(required = false) List<String> specs) {
+        List<PartFacetResponse> facets = partService.getFacets(category, specs);
+        return ResponseEntity.ok(ApiResponse.ok(facets));
+    }
+
     @Operation(summary = "부품 카테고리 목록")
     @GetMapping("/categories")
     public ResponseEntity<ApiResponse<List<String>>> getCategories() {
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 public class PartSearchRequest {
@@ -19,6 +21,9 @@ public class PartSearchRequest {
     @Min(value = 0, message = "최대 가격은 0 이상이어야 합니다.")
     private Integer maxPrice;
 
+    // "key:value" 형식, 예) specs=socket:AM5&specs=memoryType:DDR5
+    private List<String> specs;
+
     private String sort;
 
     @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.")
@@ -24,6 +24,7 @@ public class PartDetailResponse {
     private String specs;
     private Integer lowestPrice;
     private Integer highestPrice;
+    private PartRatingResponse rating;
     private List<PriceEntryResponse> prices;
 
     public static PartDetailResponse of(Part part, List<PriceEntry> priceEntries) {
@@ -37,6 +38,7 @@ public class PartDetailResponse {
                 .specs(part.getSpecs())
                 .lowestPrice(part.getLowestPrice())
                 .highestPrice(part.getHighestPrice())
+                .rating(PartRatingResponse.from(part.getRating()))
                 .prices(priceEntries.stream().map(PriceEntryResponse::from).toList())
                 .build();
     }
@@ -0,0 +1,24 @@
+package com.jiucom.api.domain.part.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartFacetResponse {
+
+    private String key;
+    private List<FacetValue> values;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetValue {
+        private String value;
+        private long count;
+    }
+}
@@ -15,6 +15,8 @@ public class PartListResponse {
     private String imageUrl;
     private Integer lowestPrice;
     private Integer highestPrice;
+    private double averageRating;
+    private int reviewCount;
 
     public static PartListResponse from(Part part) {
         return PartListResponse.builder()
@@ -25,6 +27,8 @@ public class PartListResponse {
                 .imageUrl(part.getImageUrl())
                 .lowestPrice(part.getLowestPrice())
                 .highestPrice(part.getHighestPrice())
+                .averageRating(part.getRating() != null ? PartRatingResponse.roundAverage(part.getRating().getAverage()) : 0)
+                .reviewCount(part.getRating() != null ? part.getRating().getReviewCount() : 0)
                 .build();
     }
 }
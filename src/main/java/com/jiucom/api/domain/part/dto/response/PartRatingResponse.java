@@ -0,0 +1,36 @@
+package com.jiucom.api.domain.part.dto.response;
+
+import com.jiucom.api.domain.part.entity.PartRating;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartRatingResponse {
+
+    private int reviewCount;
+    private double averageRating;
+    private List<Integer> distribution;   // 1점 ~ 5점 리뷰 수
+
+    public static PartRatingResponse from(PartRating rating) {
+        if (rating == null) {
+            rating = new PartRating();
+        }
+        return PartRatingResponse.builder()
+                .reviewCount(rating.getReviewCount())
+                .averageRating(roundAverage(rating.getAverage()))
+                .distribution(rating.getDistribution())
+                .build();
+    }
+
+    // 소수 첫째 자리까지 (4.25 -> 4.3)
+    public static double roundAverage(double average) {
+        return Math.round(average * 10) / 10.0;
+    }
+}
@@ -4,9 +4,17 @@ import com.jiucom.api.domain.part.entity.enums.PartCategory;
 import com.jiucom.api.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
+// 바뀐 컬럼만 UPDATE - 잠금 없이 읽어 둔 부품(가져오기, 관리자 수정, L2 캐시)을 flush 해도
+// 그 사이 리뷰 잠금 경로가 커밋한 평점 집계(rating)를 이전 값으로 덮어쓰지 않도록
 @Entity
 @Table(name = "parts")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "part")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -43,6 +51,10 @@ public class Part extends BaseTimeEntity {
     @Builder.Default
     private Integer popularityScore = 0;
 
+    @Embedded
+    @Builder.Default
+    private PartRating rating = new PartRating();
+
     public void updateName(String name) {
         this.name = name;
     }
@@ -59,8 +71,29 @@ public class Part extends BaseTimeEntity {
         this.specs = specs;
     }
 
+    // 리뷰 평점 집계 - 호출 전 PartRepository.findByIdForUpdate 로 행을 잠가야 한다 (동시 리뷰 작성 시 갱신 유실 방지)
+    public void addReviewRating(int rating) {
+        ratingStats().add(rating);
+    }
+
+    public void changeReviewRating(int from, int to) {
+        ratingStats().change(from, to);
+    }
+
+    public void removeReviewRating(int rating) {
+        ratingStats().remove(rating);
+    }
+
     public void updatePriceRange(Integer lowestPrice, Integer highestPrice) {
         this.lowestPrice = lowestPrice;
         this.highestPrice = highestPrice;
     }
+
+    // @AllArgsConstructor 로 만든 엔티티는 rating 이 null 일 수 있다
+    private PartRating ratingStats() {
+        if (this.rating == null) {
+            this.rating = new PartRating();
+        }
+        return this.rating;
+    }
 }
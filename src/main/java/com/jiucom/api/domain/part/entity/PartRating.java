@@ -0,0 +1,79 @@
+package com.jiucom.api.domain.part.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 부품 리뷰 평점 집계 (비정규화) - 상세/목록에서 리뷰를 스캔하지 않도록 리뷰 작성/수정/삭제 시 함께 갱신한다.
+ * 갱신은 parts 행 잠금(PartRepository.findByIdForUpdate) 안에서만 한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class PartRating {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    @Column(name = "review_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int reviewCount;
+
+    @Column(name = "rating_sum", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int ratingSum;
+
+    // 정렬/인덱스용 - ratingSum / reviewCount (리뷰 없으면 0)
+    @Column(name = "rating_avg", nullable = false, columnDefinition = "DOUBLE DEFAULT 0")
+    private double average;
+
+    @Column(name = "rating_1_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int rating5Count;
+
+    public void add(int rating) {
+        apply(rating, 1);
+    }
+
+    public void remove(int rating) {
+        apply(rating, -1);
+    }
+
+    public void change(int from, int to) {
+        if (from == to) return;
+        apply(from, -1);
+        apply(to, 1);
+    }
+
+    // 1점 ~ 5점 순서
+    public List<Integer> getDistribution() {
+        return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
+    }
+
+    private void apply(int rating, int delta) {
+        if (rating < MIN_RATING || rating > MAX_RATING) return;
+        switch (rating) {
+            case 1 -> rating1Count = Math.max(0, rating1Count + delta);
+            case 2 -> rating2Count = Math.max(0, rating2Count + delta);
+            case 3 -> rating3Count = Math.max(0, rating3Count + delta);
+            case 4 -> rating4Count = Math.max(0, rating4Count + delta);
+            default -> rating5Count = Math.max(0, rating5Count + delta);
+        }
+        reviewCount = Math.max(0, reviewCount + delta);
+        ratingSum = reviewCount == 0 ? 0 : Math.max(0, ratingSum + rating * delta);
+        average = reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jiucom.api.domain.part.entity;
+
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "part_specs",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_part_spec",
+                columnNames = {"part_id", "spec_key"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PartSpec extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "part_id", nullable = false)
+    private Long partId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PartCategory category;
+
+    @Column(name = "spec_key", nullable = false, length = 50)
+    private String specKey;
+
+    @Column(name = "spec_value", nullable = false, length = 100)
+    private String specValue;
+}
@@ -0,0 +1,27 @@
+package com.jiucom.api.domain.part.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 관심 부품 변경 이벤트 (즐겨찾기, 가격 알림, 견적 구성) - 부품 추천 행렬(PartRecommendationService) 증분 갱신용.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PartInterestChangedEvent {
+
+    private final Long userId;
+    private final Collection<Long> addedPartIds;
+    private final Collection<Long> removedPartIds;
+
+    public static PartInterestChangedEvent added(Long userId, Collection<Long> partIds) {
+        return new PartInterestChangedEvent(userId, partIds, List.of());
+    }
+
+    public static PartInterestChangedEvent removed(Long userId, Collection<Long> partIds) {
+        return new PartInterestChangedEvent(userId, List.of(), partIds);
+    }
+}
@@ -0,0 +1,16 @@
+package com.jiucom.api.domain.part.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부품 최저가 변동 이벤트 (Part.updatePriceRange 호출 측에서 발행).
+ */
+@Getter
+@RequiredArgsConstructor
+public class PartPriceChangedEvent {
+
+    private final Long partId;
+    private final Integer oldLowestPrice;
+    private final Integer newLowestPrice;
+}
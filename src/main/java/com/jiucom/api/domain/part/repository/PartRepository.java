@@ -2,9 +2,16 @@ package com.jiucom.api.domain.part.repository;
 
 import com.jiucom.api.domain.part.entity.Part;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface PartRepository extends JpaRepository<Part, Long>, PartRepositoryCustom {
 
@@ -13,4 +20,13 @@ public interface PartRepository extends JpaRepository<Part, Long>, PartRepositor
     Page<Part> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Part> findByCategoryAndIsDeletedFalse(PartCategory category, Pageable pageable);
+
+    // 캐시 워밍업 대상 - 인기 부품 id 만 조회
+    @Query("SELECT p.id FROM Part p WHERE p.isDeleted = false ORDER BY p.popularityScore DESC, p.id DESC")
+    List<Long> findPopularIds(Pageable pageable);
+
+    // 리뷰 평점 집계 갱신용 - SELECT ... FOR UPDATE 로 같은 부품의 동시 갱신을 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Part p WHERE p.id = :id")
+    Optional<Part> findByIdForUpdate(@Param("id") Long id);
 }
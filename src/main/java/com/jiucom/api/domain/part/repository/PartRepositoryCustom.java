@@ -1,15 +1,23 @@
 package com.jiucom.api.domain.part.repository;
 
+import com.jiucom.api.domain.part.dto.response.PartListResponse;
 import com.jiucom.api.domain.part.entity.Part;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PartRepositoryCustom {
 
     Page<Part> searchParts(String keyword, PartCategory category, Integer minPrice, Integer maxPrice, Pageable pageable);
 
+    List<PartListResponse> searchPartList(String keyword, PartCategory category, Integer minPrice, Integer maxPrice,
+                                          Map<String, List<String>> specFilters, Pageable pageable);
+
+    long countParts(String keyword, PartCategory category, Integer minPrice, Integer maxPrice,
+                    Map<String, List<String>> specFilters);
+
     List<String> suggestNames(String keyword, int limit);
 }
@@ -1,10 +1,15 @@
 package com.jiucom.api.domain.part.repository;
 
+import com.jiucom.api.domain.part.dto.response.PartListResponse;
+import com.jiucom.api.domain.part.dto.response.PartRatingResponse;
 import com.jiucom.api.domain.part.entity.Part;
 import com.jiucom.api.domain.part.entity.QPart;
+import com.jiucom.api.domain.part.entity.QPartSpec;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -25,26 +31,11 @@ public class PartRepositoryCustomImpl implements PartRepositoryCustom {
     public Page<Part> searchParts(String keyword, PartCategory category,
                                   Integer minPrice, Integer maxPrice, Pageable pageable) {
         QPart part = QPart.part;
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(part.isDeleted.eq(false));
-
-        if (keyword != null && !keyword.isBlank()) {
-            builder.and(part.name.containsIgnoreCase(keyword)
-                    .or(part.manufacturer.containsIgnoreCase(keyword)));
-        }
-        if (category != null) {
-            builder.and(part.category.eq(category));
-        }
-        if (minPrice != null) {
-            builder.and(part.lowestPrice.goe(minPrice));
-        }
-        if (maxPrice != null) {
-            builder.and(part.lowestPrice.loe(maxPrice));
-        }
+        BooleanBuilder builder = searchCondition(part, keyword, category, minPrice, maxPrice);
 
         JPAQuery<Part> query = queryFactory.selectFrom(part)
                 .where(builder)
-                .orderBy(getOrderSpecifier(pageable, part))
+                .orderBy(getOrderSpecifiers(pageable, part))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
 
@@ -54,6 +45,52 @@ public class PartRepositoryCustomImpl implements PartRepositoryCustom {
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public List<PartListResponse> searchPartList(String keyword, PartCategory category,
+                                                 Integer minPrice, Integer maxPrice,
+                                                 Map<String, List<String>> specFilters, Pageable pageable) {
+        QPart part = QPart.part;
+
+        // List columns only - never touch the specs JSON column on listing
+        List<Tuple> rows = queryFactory
+                .select(part.id, part.name, part.category, part.manufacturer,
+                        part.imageUrl, part.lowestPrice, part.highestPrice,
+                        part.rating.average, part.rating.reviewCount)
+                .from(part)
+                .where(searchCondition(part, keyword, category, minPrice, maxPrice)
+                        .and(specCondition(part, specFilters)))
+                .orderBy(getOrderSpecifiers(pageable, part))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return rows.stream()
+                .map(row -> PartListResponse.builder()
+                        .id(row.get(part.id))
+                        .name(row.get(part.name))
+                        .category(row.get(part.category).name())
+                        .manufacturer(row.get(part.manufacturer))
+                        .imageUrl(row.get(part.imageUrl))
+                        .lowestPrice(row.get(part.lowestPrice))
+                        .highestPrice(row.get(part.highestPrice))
+                        .averageRating(PartRatingResponse.roundAverage(row.get(part.rating.average)))
+                        .reviewCount(row.get(part.rating.reviewCount))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public long countParts(String keyword, PartCategory category, Integer minPrice, Integer maxPrice,
+                           Map<String, List<String>> specFilters) {
+        QPart part = QPart.part;
+        Long total = queryFactory.select(part.count())
+                .from(part)
+                .where(searchCondition(part, keyword, category, minPrice, maxPrice)
+                        .and(specCondition(part, specFilters)))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
     @Override
     public List<String> suggestNames(String keyword, int limit) {
         QPart part = QPart.part;
@@ -66,19 +103,63 @@ public class PartRepositoryCustomImpl implements PartRepositoryCustom {
                 .fetch();
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(Pageable pageable, QPart part) {
+    private BooleanBuilder searchCondition(QPart part, String keyword, PartCategory category,
+                                           Integer minPrice, Integer maxPrice) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(part.isDeleted.eq(false));
+
+        if (keyword != null && !keyword.isBlank()) {
+            builder.and(part.name.containsIgnoreCase(keyword)
+                    .or(part.manufacturer.containsIgnoreCase(keyword)));
+        }
+        if (category != null) {
+            builder.and(part.category.eq(category));
+        }
+        if (minPrice != null) {
+            builder.and(part.lowestPrice.goe(minPrice));
+        }
+        if (maxPrice != null) {
+            builder.and(part.lowestPrice.loe(maxPrice));
+        }
+        return builder;
+    }
+
+    // Spec filters resolve through the part_specs facet index, never the specs JSON
+    private BooleanBuilder specCondition(QPart part, Map<String, List<String>> specFilters) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (specFilters == null || specFilters.isEmpty()) {
+            return builder;
+        }
+
+        int alias = 0;
+        for (Map.Entry<String, List<String>> filter : specFilters.entrySet()) {
+            QPartSpec spec = new QPartSpec("spec" + alias++);
+            builder.and(part.id.in(JPAExpressions.select(spec.partId)
+                    .from(spec)
+                    .where(spec.specKey.eq(filter.getKey())
+                            .and(spec.specValue.in(filter.getValue())))));
+        }
+        return builder;
+    }
+
+    private OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable, QPart part) {
         if (pageable.getSort().isSorted()) {
             var order = pageable.getSort().iterator().next();
             String property = order.getProperty();
             boolean asc = order.isAscending();
 
             return switch (property) {
-                case "price" -> asc ? part.lowestPrice.asc() : part.lowestPrice.desc();
-                case "popularity" -> part.popularityScore.desc();
-                case "name" -> asc ? part.name.asc() : part.name.desc();
-                default -> part.popularityScore.desc();
+                case "price" -> new OrderSpecifier<?>[]{asc ? part.lowestPrice.asc() : part.lowestPrice.desc()};
+                case "popularity" -> new OrderSpecifier<?>[]{part.popularityScore.desc()};
+                case "name" -> new OrderSpecifier<?>[]{asc ? part.name.asc() : part.name.desc()};
+                // 비정규화된 parts 컬럼 - reviews 조인/집계 없음. 평균이 같으면 리뷰 많은 순
+                case "rating" -> new OrderSpecifier<?>[]{
+                        asc ? part.rating.average.asc() : part.rating.average.desc(), part.rating.reviewCount.desc()};
+                case "reviews" -> new OrderSpecifier<?>[]{
+                        asc ? part.rating.reviewCount.asc() : part.rating.reviewCount.desc()};
+                default -> new OrderSpecifier<?>[]{part.popularityScore.desc()};
             };
         }
-        return part.popularityScore.desc();
+        return new OrderSpecifier<?>[]{part.popularityScore.desc()};
     }
 }
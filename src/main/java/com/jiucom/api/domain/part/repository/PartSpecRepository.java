@@ -0,0 +1,19 @@
+package com.jiucom.api.domain.part.repository;
+
+import com.jiucom.api.domain.part.entity.PartSpec;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PartSpecRepository extends JpaRepository<PartSpec, Long>, PartSpecRepositoryCustom {
+
+    List<PartSpec> findByPartIdIn(Collection<Long> partIds);
+
+    @Modifying
+    @Query("DELETE FROM PartSpec s WHERE s.partId = :partId")
+    void deleteByPartId(@Param("partId") Long partId);
+}
@@ -0,0 +1,12 @@
+package com.jiucom.api.domain.part.repository;
+
+import com.jiucom.api.domain.part.dto.response.PartFacetResponse;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PartSpecRepositoryCustom {
+
+    List<PartFacetResponse> countFacets(PartCategory category, Map<String, List<String>> specFilters);
+}
@@ -0,0 +1,83 @@
+package com.jiucom.api.domain.part.repository;
+
+import com.jiucom.api.domain.part.dto.response.PartFacetResponse;
+import com.jiucom.api.domain.part.entity.QPartSpec;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class PartSpecRepositoryCustomImpl implements PartSpecRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 선택된 facet 으로 좁힌 부품의 (key, value) 별 개수.
+     * 같은 key 의 값은 OR 이므로 key 마다 자기 자신의 필터는 빼고 센다 - 선택한 값의 형제 값도 개수가 유지된다.
+     */
+    @Override
+    public List<PartFacetResponse> countFacets(PartCategory category, Map<String, List<String>> specFilters) {
+        Map<String, List<String>> filters = specFilters != null ? specFilters : Map.of();
+        QPartSpec spec = QPartSpec.partSpec;
+
+        // key 오름차순, key 안에서는 개수 내림차순 (쿼리 정렬 유지)
+        Map<String, List<PartFacetResponse.FacetValue>> grouped = new TreeMap<>();
+
+        // 선택되지 않은 key - 모든 필터 적용
+        countInto(grouped, spec, category, filters, filters.isEmpty() ? null : spec.specKey.notIn(filters.keySet()));
+        // 선택된 key - 해당 key 의 필터만 제외 (key 수만큼 쿼리, 보통 1~3개)
+        for (String key : filters.keySet()) {
+            Map<String, List<String>> others = new LinkedHashMap<>(filters);
+            others.remove(key);
+            countInto(grouped, spec, category, others, spec.specKey.eq(key));
+        }
+
+        return grouped.entrySet().stream()
+                .map(entry -> new PartFacetResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private void countInto(Map<String, List<PartFacetResponse.FacetValue>> grouped, QPartSpec spec,
+                           PartCategory category, Map<String, List<String>> filters, Predicate keyCondition) {
+        NumberExpression<Long> count = spec.count();
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(spec.category.eq(category));
+        builder.and(keyCondition); // null 이면 무시
+
+        // Restrict counts to parts that match the selected facets (different keys are AND'ed)
+        int alias = 0;
+        for (Map.Entry<String, List<String>> filter : filters.entrySet()) {
+            QPartSpec selected = new QPartSpec("selected" + alias++);
+            builder.and(spec.partId.in(JPAExpressions.select(selected.partId)
+                    .from(selected)
+                    .where(selected.specKey.eq(filter.getKey())
+                            .and(selected.specValue.in(filter.getValue())))));
+        }
+
+        List<Tuple> rows = queryFactory.select(spec.specKey, spec.specValue, count)
+                .from(spec)
+                .where(builder)
+                .groupBy(spec.specKey, spec.specValue)
+                .orderBy(spec.specKey.asc(), count.desc())
+                .fetch();
+
+        for (Tuple row : rows) {
+            grouped.computeIfAbsent(row.get(spec.specKey), key -> new ArrayList<>())
+                    .add(new PartFacetResponse.FacetValue(row.get(spec.specValue), row.get(count)));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.jiucom.api.domain.part.scheduler;
+
+import com.jiucom.api.domain.part.service.PartRecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartRecommendationScheduler {
+
+    private final PartRecommendationService partRecommendationService;
+
+    // 증분 갱신 누락/경합 보정 - 매일 전체 재계산
+    @Scheduled(cron = "${part.recommendation.rebuild-cron:0 30 4 * * *}")
+    public void rebuildRecommendations() {
+        try {
+            partRecommendationService.rebuild();
+        } catch (Exception e) {
+            log.warn("부품 추천 행렬 재계산 실패: {}", e.getMessage());
+        }
+    }
+}
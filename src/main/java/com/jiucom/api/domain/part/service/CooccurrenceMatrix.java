@@ -0,0 +1,184 @@
+package com.jiucom.api.domain.part.service;
+
+import java.util.*;
+
+/**
+ * 부품-부품 동시 관심 횟수 희소 행렬 (배치 재계산용, 단일 스레드).
+ * 부품 id 를 조밀한 int 인덱스로 바꾸고 상삼각 쌍 (i < j) 을 long 키 하나로 묶어
+ * open addressing 해시(long[] 키 / int[] 값)에 센다 - 쌍마다 박싱 객체를 만들지 않는다.
+ */
+final class CooccurrenceMatrix {
+
+    private static final long EMPTY = -1L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final Map<Long, Integer> indexOf = new HashMap<>();
+    private long[] partIds = new long[1024];
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+
+    CooccurrenceMatrix(int expectedPairs) {
+        allocate(tableSize(Math.max(16, expectedPairs)));
+    }
+
+    /**
+     * 한 사용자의 관심 부품 집합 - 모든 쌍을 1씩 센다.
+     */
+    void addBasket(Collection<Long> basket) {
+        int[] indexes = basket.stream().mapToInt(this::index).distinct().sorted().toArray();
+        for (int i = 0; i < indexes.length; i++) {
+            for (int j = i + 1; j < indexes.length; j++) {
+                increment(((long) indexes[i] << 32) | indexes[j]);
+            }
+        }
+    }
+
+    int pairCount() {
+        return size;
+    }
+
+    int partCount() {
+        return indexOf.size();
+    }
+
+    /**
+     * 부품별 동시 관심 횟수 상위 k 개 (partId -> neighbourId -> count). 횟수가 같으면 먼저 등록된 부품 우선.
+     */
+    Map<Long, Map<Long, Double>> topNeighbours(int k) {
+        // 부품마다 (count << 32 | ~neighbourIndex) 최소 힙 - 값이 클수록 상위
+        long[][] heaps = new long[indexOf.size()][];
+        int[] heapSizes = new int[indexOf.size()];
+        for (int slot = 0; slot < keys.length; slot++) {
+            long key = keys[slot];
+            if (key == EMPTY) continue;
+            int i = (int) (key >>> 32);
+            int j = (int) key;
+            offer(heaps, heapSizes, i, j, counts[slot], k);
+            offer(heaps, heapSizes, j, i, counts[slot], k);
+        }
+
+        Map<Long, Map<Long, Double>> result = new HashMap<>();
+        for (int i = 0; i < heaps.length; i++) {
+            if (heapSizes[i] == 0) continue;
+            Map<Long, Double> row = new HashMap<>();
+            for (int n = 0; n < heapSizes[i]; n++) {
+                long entry = heaps[i][n];
+                row.put(partIds[~(int) entry], (double) (entry >>> 32));
+            }
+            result.put(partIds[i], row);
+        }
+        return result;
+    }
+
+    private int index(Long partId) {
+        return indexOf.computeIfAbsent(partId, id -> {
+            int index = indexOf.size();
+            if (index == partIds.length) {
+                partIds = Arrays.copyOf(partIds, index * 2);
+            }
+            partIds[index] = id;
+            return index;
+        });
+    }
+
+    private void increment(long key) {
+        int slot = find(key);
+        if (keys[slot] == key) {
+            counts[slot]++;
+            return;
+        }
+        keys[slot] = key;
+        counts[slot] = 1;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash();
+        }
+    }
+
+    // 선형 탐사 - key 가 있는 칸 또는 넣을 빈 칸
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(oldKeys.length * 2);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] == EMPTY) continue;
+            int target = find(oldKeys[slot]);
+            keys[target] = oldKeys[slot];
+            counts[target] = oldCounts[slot];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static void offer(long[][] heaps, int[] heapSizes, int part, int neighbour, int count, int k) {
+        long entry = ((long) count << 32) | (~neighbour & 0xFFFFFFFFL);
+        long[] heap = heaps[part];
+        if (heap == null) {
+            heap = heaps[part] = new long[k];
+        }
+        int n = heapSizes[part];
+        if (n < k) {
+            heap[n] = entry;
+            heapSizes[part] = n + 1;
+            siftUp(heap, n);
+        } else if (entry > heap[0]) {
+            heap[0] = entry;
+            siftDown(heap, k);
+        }
+    }
+
+    private static void siftUp(long[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= heap[i]) return;
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int n) {
+        int i = 0;
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < n && heap[left] < heap[smallest]) smallest = left;
+            if (right < n && heap[right] < heap[smallest]) smallest = right;
+            if (smallest == i) return;
+            swap(heap, i, smallest);
+            i = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int a, int b) {
+        long tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private static int tableSize(int expected) {
+        int capacity = Integer.highestOneBit((int) Math.min(1 << 30, (long) (expected / LOAD_FACTOR) + 1));
+        return Math.max(16, capacity << 1);
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
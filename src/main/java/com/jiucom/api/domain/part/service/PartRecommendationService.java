@@ -0,0 +1,140 @@
+package com.jiucom.api.domain.part.service;
+
+import com.jiucom.api.domain.build.repository.BuildPartRepository;
+import com.jiucom.api.domain.favorite.repository.FavoriteRepository;
+import com.jiucom.api.domain.part.dto.response.PartListResponse;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.event.PartInterestChangedEvent;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.price.repository.PriceAlertRepository;
+import com.jiucom.api.global.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * "이 부품에 관심 있는 사용자가 함께 본 부품" - 사용자별 관심 부품(즐겨찾기 + 가격 알림 + 견적 부품) 동시 등장 횟수 기반 추천.
+ * 배치(rebuild)가 전체 행렬을 메모리에서 계산해 부품별 상위 row-size 개를 Redis sorted set 에 적재하고,
+ * 이후 관심 부품 변경 이벤트마다 해당 사용자의 다른 관심 부품과의 쌍만 커밋 후 ZINCRBY 로 반영한다.
+ * 조회는 ZREVRANGE 한 번 + 부품 IN 조회 한 번 - 요청 시점에 favorites/builds 를 집계하지 않는다.
+ * 트랜잭션 이벤트 리스너가 있어 클래스 단위 @Transactional 을 두지 않는다.
+ */
+@Slf4j
+@Service
+public class PartRecommendationService {
+
+    private final FavoriteRepository favoriteRepository;
+    private final PriceAlertRepository priceAlertRepository;
+    private final BuildPartRepository buildPartRepository;
+    private final PartRepository partRepository;
+    private final RedisUtil redisUtil;
+
+    private final int maxSize;
+    private final int rowSize;
+    private final int maxBasketSize;
+
+    public PartRecommendationService(FavoriteRepository favoriteRepository,
+                                     PriceAlertRepository priceAlertRepository,
+                                     BuildPartRepository buildPartRepository,
+                                     PartRepository partRepository,
+                                     RedisUtil redisUtil,
+                                     @Value("${part.recommendation.max-size:20}") int maxSize,
+                                     @Value("${part.recommendation.row-size:100}") int rowSize,
+                                     @Value("${part.recommendation.max-basket-size:100}") int maxBasketSize) {
+        this.favoriteRepository = favoriteRepository;
+        this.priceAlertRepository = priceAlertRepository;
+        this.buildPartRepository = buildPartRepository;
+        this.partRepository = partRepository;
+        this.redisUtil = redisUtil;
+        this.maxSize = maxSize;
+        this.rowSize = rowSize;
+        this.maxBasketSize = maxBasketSize;
+    }
+
+    public List<PartListResponse> getRecommendations(Long partId, int size) {
+        int limit = Math.max(1, Math.min(size, maxSize));
+        // 삭제된 부품을 걸러도 limit 개가 남도록 여유 있게 조회
+        List<Long> ids = redisUtil.getPartNeighbours(partId, limit * 2);
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        // IN 조회 1회 후 Redis 점수 순서로 다시 정렬
+        Map<Long, Part> parts = new HashMap<>();
+        partRepository.findAllById(ids).forEach(part -> parts.put(part.getId(), part));
+        return ids.stream()
+                .map(parts::get)
+                .filter(part -> part != null && !part.isDeleted())
+                .limit(limit)
+                .map(PartListResponse::from)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInterestChanged(PartInterestChangedEvent event) {
+        // 커밋 후 관심 부품 (같은 부품이 즐겨찾기 + 견적 등 여러 곳에 있으면 그 수만큼)
+        Map<Long, Integer> references = new HashMap<>();
+        interestsOf(event.getUserId()).forEach(partId -> references.merge(partId, 1, Integer::sum));
+        if (references.size() > maxBasketSize) return;   // 배치와 같은 기준 - 과도한 관심 목록은 제외
+
+        // 처음 관심 목록에 들어온 부품 / 완전히 빠진 부품만 쌍 횟수가 바뀐다
+        List<Long> added = event.getAddedPartIds().stream()
+                .distinct().filter(partId -> references.getOrDefault(partId, 0) == 1).toList();
+        List<Long> removed = event.getRemovedPartIds().stream()
+                .distinct().filter(partId -> !references.containsKey(partId)).toList();
+        if (added.isEmpty() && removed.isEmpty()) return;
+
+        // 변경 전 집합에서 출발해 제거 → 추가 순으로 반영
+        Set<Long> basket = new LinkedHashSet<>(references.keySet());
+        added.forEach(basket::remove);
+        basket.addAll(removed);
+        for (Long partId : removed) {
+            basket.remove(partId);
+            redisUtil.incrementPartCooccurrence(partId, List.copyOf(basket), -1);
+        }
+        for (Long partId : added) {
+            redisUtil.incrementPartCooccurrence(partId, List.copyOf(basket), 1);
+            basket.add(partId);
+        }
+    }
+
+    /**
+     * 전체 재계산 - 증분 갱신 누락/경합 보정. 반환: 적재한 부품 수.
+     */
+    public int rebuild() {
+        Map<Long, Set<Long>> baskets = new HashMap<>();
+        for (List<Object[]> rows : List.of(favoriteRepository.findAllUserPartIds(),
+                priceAlertRepository.findAllUserPartIds(), buildPartRepository.findAllUserPartIds())) {
+            for (Object[] row : rows) {
+                baskets.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((Long) row[1]);
+            }
+        }
+
+        long expectedPairs = 0;
+        for (Set<Long> basket : baskets.values()) {
+            if (basket.size() > 1 && basket.size() <= maxBasketSize) {
+                expectedPairs += (long) basket.size() * (basket.size() - 1) / 2;
+            }
+        }
+        CooccurrenceMatrix matrix = new CooccurrenceMatrix((int) Math.min(expectedPairs, 1 << 20));
+        for (Set<Long> basket : baskets.values()) {
+            if (basket.size() > 1 && basket.size() <= maxBasketSize) {
+                matrix.addBasket(basket);
+            }
+        }
+
+        Map<Long, Map<Long, Double>> rows = matrix.topNeighbours(rowSize);
+        redisUtil.replacePartCooccurrence(rows);
+        log.info("부품 추천 행렬 재계산: {} users, {} parts, {} pairs", baskets.size(), matrix.partCount(), matrix.pairCount());
+        return rows.size();
+    }
+
+    private List<Long> interestsOf(Long userId) {
+        List<Long> partIds = new ArrayList<>(favoriteRepository.findPartIdsByUserId(userId));
+        partIds.addAll(priceAlertRepository.findPartIdsByUserId(userId));
+        partIds.addAll(buildPartRepository.findPartIdsByUserId(userId));
+        return partIds;
+    }
+}
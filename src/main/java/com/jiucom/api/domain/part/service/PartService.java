@@ -4,9 +4,11 @@ import com.jiucom.api.domain.part.dto.request.PartCreateRequest;
 import com.jiucom.api.domain.part.dto.request.PartSearchRequest;
 import com.jiucom.api.domain.part.dto.request.PartUpdateRequest;
 import com.jiucom.api.domain.part.dto.response.PartDetailResponse;
+import com.jiucom.api.domain.part.dto.response.PartFacetResponse;
 import com.jiucom.api.domain.part.dto.response.PartListResponse;
 import com.jiucom.api.domain.part.entity.Part;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.event.PartPriceChangedEvent;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.price.entity.PriceEntry;
 import com.jiucom.api.domain.price.repository.PriceEntryRepository;
@@ -14,16 +16,21 @@ import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
 import com.jiucom.api.global.response.PageResponse;
 import com.jiucom.api.global.util.RedisUtil;
+import com.jiucom.api.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -32,21 +39,32 @@ public class PartService {
 
     private final PartRepository partRepository;
     private final PriceEntryRepository priceEntryRepository;
+    private final PartSpecService partSpecService;
     private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PageResponse<PartListResponse> searchParts(PartSearchRequest request) {
         Sort sort = parseSort(request.getSort());
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
-        Page<Part> page = partRepository.searchParts(
-                request.getKeyword(),
+        // 목록/COUNT/캐시 키가 같은 키워드를 쓰도록 한 번만 정규화 (검색은 대소문자 무시)
+        String keyword = normalizeKeyword(request.getKeyword());
+        Map<String, List<String>> specFilters = partSpecService.parseFilters(request.getSpecs());
+
+        List<PartListResponse> content = partRepository.searchPartList(
+                keyword,
                 request.getCategory(),
                 request.getMinPrice(),
                 request.getMaxPrice(),
+                specFilters,
                 pageable
         );
 
-        return PageResponse.from(page, PartListResponse::from);
+        // COUNT only when the page alone can't tell the total
+        Page<PartListResponse> page = PageableExecutionUtils.getPage(content, pageable,
+                () -> countParts(request, keyword, specFilters));
+
+        return PageResponse.from(page, Function.identity());
     }
 
     public PartDetailResponse getPartDetail(Long partId) {
@@ -69,6 +87,10 @@ public class PartService {
         return response;
     }
 
+    public List<PartFacetResponse> getFacets(PartCategory category, List<String> specs) {
+        return partSpecService.getFacets(category, specs);
+    }
+
     public List<String> getAllCategories() {
         // Check cache
         List<String> cached = redisUtil.getCachedPartCategories();
@@ -100,6 +122,11 @@ public class PartService {
                 .build();
 
         partRepository.save(part);
+        partSpecService.reindex(part);
+
+        // Invalidate list counts (after commit)
+        TransactionUtil.afterCommit(redisUtil::evictPartCounts);
+
         return PartDetailResponse.of(part, List.of());
     }
 
@@ -122,17 +149,29 @@ public class PartService {
             part.updateSpecs(request.getSpecs());
         }
         if (request.getLowestPrice() != null || request.getHighestPrice() != null) {
+            Integer oldLowestPrice = part.getLowestPrice();
             part.updatePriceRange(
                     request.getLowestPrice() != null ? request.getLowestPrice() : part.getLowestPrice(),
                     request.getHighestPrice() != null ? request.getHighestPrice() : part.getHighestPrice()
             );
+            eventPublisher.publishEvent(new PartPriceChangedEvent(partId, oldLowestPrice, part.getLowestPrice()));
+        }
+
+        if (request.getName() != null || request.getCategory() != null || request.getSpecs() != null) {
+            partSpecService.reindex(part);
+        }
+        // 검색 조건(키워드 = 이름/제조사, 카테고리, 가격 범위)에 걸리는 값이 바뀌면 COUNT 캐시도 무효화
+        if (request.getName() != null || request.getCategory() != null || request.getSpecs() != null
+                || request.getManufacturer() != null
+                || request.getLowestPrice() != null || request.getHighestPrice() != null) {
+            TransactionUtil.afterCommit(redisUtil::evictPartCounts);
         }
 
         List<PriceEntry> priceEntries = priceEntryRepository.findByPartIdOrderByPriceAsc(partId);
         PartDetailResponse response = PartDetailResponse.of(part, priceEntries);
 
-        // Invalidate cache
-        redisUtil.evictPartDetail(partId);
+        // Invalidate cache (after commit)
+        TransactionUtil.afterCommit(() -> redisUtil.evictPartDetail(partId));
 
         return response;
     }
@@ -143,9 +182,52 @@ public class PartService {
                 .filter(p -> !p.isDeleted())
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.PART_NOT_FOUND));
         part.softDelete();
+        partSpecService.removeIndex(partId);
+
+        // Invalidate cache (after commit)
+        TransactionUtil.afterCommit(() -> {
+            redisUtil.evictPartDetail(partId);
+            redisUtil.evictPartCounts();
+        });
+    }
+
+    private long countParts(PartSearchRequest request, String keyword, Map<String, List<String>> specFilters) {
+        String filterKey = partCountKey(request, keyword, specFilters);
 
-        // Invalidate cache
-        redisUtil.evictPartDetail(partId);
+        // Check cache
+        Long cached = redisUtil.getCachedPartCount(filterKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        long total = partRepository.countParts(
+                keyword,
+                request.getCategory(),
+                request.getMinPrice(),
+                request.getMaxPrice(),
+                specFilters
+        );
+
+        // Store in cache
+        redisUtil.cachePartCount(filterKey, total);
+
+        return total;
+    }
+
+    private String partCountKey(PartSearchRequest request, String keyword, Map<String, List<String>> specFilters) {
+        // specFilters is key-sorted, so equal filter sets share a key
+        return (request.getCategory() != null ? request.getCategory().name() : "ALL")
+                + ":" + request.getMinPrice()
+                + ":" + request.getMaxPrice()
+                + ":" + specFilters
+                + ":" + (keyword != null ? keyword : "");
+    }
+
+    private String normalizeKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return keyword.trim().toLowerCase();
     }
 
     private Sort parseSort(String sortParam) {
@@ -159,6 +241,8 @@ public class PartService {
             case "name_asc" -> Sort.by(Sort.Direction.ASC, "name");
             case "name_desc" -> Sort.by(Sort.Direction.DESC, "name");
             case "latest" -> Sort.by(Sort.Direction.DESC, "createdAt");
+            case "rating" -> Sort.by(Sort.Direction.DESC, "rating");
+            case "reviews" -> Sort.by(Sort.Direction.DESC, "reviews");
             default -> Sort.unsorted();
         };
     }
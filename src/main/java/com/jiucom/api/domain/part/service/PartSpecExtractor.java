@@ -0,0 +1,163 @@
+package com.jiucom.api.domain.part.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Part.specs JSON + 부품명에서 정규화된 스펙 facet(key → value)을 추출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartSpecExtractor {
+
+    public static final String SOCKET = "socket";
+    public static final String MEMORY_TYPE = "memoryType";
+    public static final String CAPACITY = "capacity";
+    public static final String WATTAGE = "wattage";
+    public static final String TDP = "tdp";
+    public static final String FORM_FACTOR = "formFactor";
+
+    // 소문자 키 → 표준 키 표기
+    private static final Map<String, String> CANONICAL_KEYS = Stream.of(SOCKET, MEMORY_TYPE, CAPACITY, WATTAGE, TDP, FORM_FACTOR)
+            .collect(Collectors.toMap(key -> key.toLowerCase(Locale.ROOT), Function.identity()));
+
+    private static final int MAX_KEY_LENGTH = 50;
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    private static final Pattern SOCKET_PATTERN = Pattern.compile("\\b(AM4|AM5|LGA\\s?\\d{4}|STRX4|TR4)\\b");
+    private static final Pattern MEMORY_TYPE_PATTERN = Pattern.compile("\\b(DDR[2-5])");
+    private static final Pattern CAPACITY_PATTERN = Pattern.compile("(\\d+)\\s?(GB|TB)");
+    private static final Pattern WATT_PATTERN = Pattern.compile("(\\d{2,4})\\s?W\\b");
+    private static final Pattern FORM_FACTOR_PATTERN =
+            Pattern.compile("\\b(E-?ATX|MINI[- ]?ITX|MICRO[- ]?ATX|M-?ATX|ATX|ITX)\\b");
+
+    private final ObjectMapper objectMapper;
+
+    public Map<String, String> extract(Part part) {
+        Map<String, String> facets = new LinkedHashMap<>();
+
+        // 1. specs JSON (scalar fields only)
+        String specs = part.getSpecs();
+        if (specs != null && !specs.isBlank()) {
+            try {
+                JsonNode root = objectMapper.readTree(specs);
+                Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    String key = normalizeKey(field.getKey());
+                    if (!field.getValue().isValueNode() || key == null || key.length() > MAX_KEY_LENGTH) {
+                        continue;
+                    }
+                    String value = normalize(key, field.getValue().asText());
+                    if (value != null) {
+                        facets.put(key, value);
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                log.debug("Invalid specs JSON for partId={}: {}", part.getId(), e.getMessage());
+            }
+        }
+
+        // 2. Canonical facets the JSON didn't provide (imported parts often only have a name)
+        String source = (part.getName() + " " + (specs != null ? specs : "")).toUpperCase();
+        PartCategory category = part.getCategory();
+
+        if (category == PartCategory.CPU || category == PartCategory.MOTHERBOARD) {
+            putIfAbsent(facets, SOCKET, find(SOCKET_PATTERN, source));
+        }
+        if (category == PartCategory.RAM || category == PartCategory.MOTHERBOARD) {
+            putIfAbsent(facets, MEMORY_TYPE, find(MEMORY_TYPE_PATTERN, source));
+        }
+        if (category == PartCategory.RAM || category == PartCategory.SSD || category == PartCategory.HDD) {
+            putIfAbsent(facets, CAPACITY, normalize(CAPACITY, part.getName()));
+        }
+        if (category == PartCategory.POWER_SUPPLY) {
+            putIfAbsent(facets, WATTAGE, normalize(WATTAGE, part.getName()));
+        }
+        if (category == PartCategory.MOTHERBOARD || category == PartCategory.CASE) {
+            putIfAbsent(facets, FORM_FACTOR, normalize(FORM_FACTOR, source));
+        }
+
+        return facets;
+    }
+
+    /**
+     * 앞뒤 공백 제거 + 소문자 (표준 키는 상수 표기). 필터 입력 키도 같은 규칙으로 정규화해야 facet 키와 일치한다.
+     */
+    public String normalizeKey(String rawKey) {
+        if (rawKey == null) return null;
+        String key = rawKey.trim().toLowerCase(Locale.ROOT);
+        if (key.isEmpty()) return null;
+        return CANONICAL_KEYS.getOrDefault(key, key);
+    }
+
+    /**
+     * 같은 규칙으로 필터 입력값도 정규화해야 facet 값과 일치한다.
+     */
+    public String normalize(String key, String rawValue) {
+        if (rawValue == null) return null;
+        String value = rawValue.trim().replaceAll("\\s+", " ").toUpperCase();
+        if (value.isEmpty()) return null;
+
+        String normalized = switch (key) {
+            case SOCKET -> {
+                String socket = find(SOCKET_PATTERN, value);
+                yield socket != null ? socket : value.replace(" ", "");
+            }
+            case MEMORY_TYPE -> find(MEMORY_TYPE_PATTERN, value);
+            case CAPACITY -> {
+                Matcher m = CAPACITY_PATTERN.matcher(value);
+                yield m.find() ? m.group(1) + m.group(2) : null;
+            }
+            case WATTAGE, TDP -> {
+                Matcher m = WATT_PATTERN.matcher(value);
+                if (m.find()) yield m.group(1);
+                yield value.matches("\\d+") ? value : null;
+            }
+            case FORM_FACTOR -> normalizeFormFactor(find(FORM_FACTOR_PATTERN, value));
+            default -> value;
+        };
+
+        if (normalized == null || normalized.isEmpty()) return null;
+        return normalized.length() > MAX_VALUE_LENGTH ? normalized.substring(0, MAX_VALUE_LENGTH) : normalized;
+    }
+
+    private String normalizeFormFactor(String formFactor) {
+        if (formFactor == null) return null;
+        String compact = formFactor.replace(" ", "").replace("-", "");
+        return switch (compact) {
+            case "EATX" -> "E-ATX";
+            case "MATX", "MICROATX" -> "M-ATX";
+            case "MINIITX", "ITX" -> "MINI-ITX";
+            default -> compact;
+        };
+    }
+
+    private String find(Pattern pattern, String source) {
+        Matcher m = pattern.matcher(source);
+        return m.find() ? m.group(1).replace(" ", "") : null;
+    }
+
+    private void putIfAbsent(Map<String, String> facets, String key, String value) {
+        if (value != null) {
+            facets.putIfAbsent(key, value);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.jiucom.api.domain.part.service;
+
+import com.jiucom.api.domain.part.dto.response.PartFacetResponse;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.PartSpec;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.part.repository.PartSpecRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PartSpecService {
+
+    private static final int REINDEX_CHUNK_SIZE = 500;
+
+    private final PartSpecRepository partSpecRepository;
+    private final PartRepository partRepository;
+    private final PartSpecExtractor partSpecExtractor;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 부품 저장 시 호출 - 기존 facet 행을 지우고 다시 추출한다.
+     */
+    @Transactional
+    public void reindex(Part part) {
+        partSpecRepository.deleteByPartId(part.getId());
+        if (part.isDeleted()) {
+            return;
+        }
+
+        List<PartSpec> rows = partSpecExtractor.extract(part).entrySet().stream()
+                .map(facet -> PartSpec.builder()
+                        .partId(part.getId())
+                        .category(part.getCategory())
+                        .specKey(facet.getKey())
+                        .specValue(facet.getValue())
+                        .build())
+                .toList();
+        partSpecRepository.saveAll(rows);
+    }
+
+    @Transactional
+    public void removeIndex(Long partId) {
+        partSpecRepository.deleteByPartId(partId);
+    }
+
+    /**
+     * 전체 재색인 (마이그레이션 직후 / 추출 규칙 변경 시). 청크마다 별도 트랜잭션.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reindexAll() {
+        int indexed = 0;
+        int page = 0;
+        while (true) {
+            PageRequest pageable = PageRequest.of(page++, REINDEX_CHUNK_SIZE, Sort.by("id"));
+            Integer count = transactionTemplate.execute(status -> {
+                Page<Part> parts = partRepository.findAll(pageable);
+                parts.forEach(this::reindex);
+                return parts.getNumberOfElements();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            indexed += count;
+            if (count < REINDEX_CHUNK_SIZE) {
+                break;
+            }
+        }
+        log.info("Part spec reindex completed: {} parts", indexed);
+        return indexed;
+    }
+
+    public List<PartFacetResponse> getFacets(PartCategory category, List<String> specs) {
+        return partSpecRepository.countFacets(category, parseFilters(specs));
+    }
+
+    /**
+     * partId → (specKey → specValue)
+     */
+    public Map<Long, Map<String, String>> getSpecMaps(Collection<Long> partIds) {
+        if (partIds == null || partIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Map<String, String>> result = new HashMap<>();
+        for (PartSpec spec : partSpecRepository.findByPartIdIn(partIds)) {
+            result.computeIfAbsent(spec.getPartId(), id -> new HashMap<>())
+                    .put(spec.getSpecKey(), spec.getSpecValue());
+        }
+        return result;
+    }
+
+    /**
+     * "key:value" 목록 → key별 value 목록 (같은 key는 OR, 다른 key는 AND)
+     */
+    public Map<String, List<String>> parseFilters(List<String> specs) {
+        if (specs == null || specs.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<String>> filters = new TreeMap<>();
+        for (String spec : specs) {
+            int idx = spec.indexOf(':');
+            if (idx <= 0 || idx == spec.length() - 1) {
+                continue;
+            }
+            String key = partSpecExtractor.normalizeKey(spec.substring(0, idx));
+            String value = key != null ? partSpecExtractor.normalize(key, spec.substring(idx + 1)) : null;
+            if (value != null) {
+                filters.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+            }
+        }
+        return filters;
+    }
+}
@@ -4,7 +4,10 @@ import com.jiucom.api.domain.post.dto.request.PostCreateRequest;
 import com.jiucom.api.domain.post.dto.request.PostUpdateRequest;
 import com.jiucom.api.domain.post.dto.response.PostDetailResponse;
 import com.jiucom.api.domain.post.dto.response.PostListResponse;
+import com.jiucom.api.domain.post.service.PostRankingService;
 import com.jiucom.api.domain.post.service.PostService;
+import com.jiucom.api.global.etag.ConditionalGet;
+import com.jiucom.api.global.etag.EtagResource;
 import com.jiucom.api.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final PostRankingService postRankingService;
 
     @Operation(summary = "게시글 목록 조회")
     @GetMapping
@@ -43,8 +47,19 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.ok(posts));
     }
 
+    @Operation(summary = "인기 게시글 목록", description = "조회/좋아요/댓글 가중치 + 시간 감쇠 순위")
+    @GetMapping("/hot")
+    public ResponseEntity<ApiResponse<Page<PostListResponse>>> getHotPosts(
+            @RequestParam(required = false) String boardType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<PostListResponse> posts = postRankingService.getHotPosts(boardType, page, size);
+        return ResponseEntity.ok(ApiResponse.ok(posts));
+    }
+
     @Operation(summary = "게시글 상세 조회")
     @GetMapping("/{postId}")
+    @ConditionalGet(value = EtagResource.POST_DETAIL, idVariable = "postId")
     public ResponseEntity<ApiResponse<PostDetailResponse>> getPost(@PathVariable Long postId) {
         PostDetailResponse post = postService.getPostDetail(postId);
         return ResponseEntity.ok(ApiResponse.ok(post));
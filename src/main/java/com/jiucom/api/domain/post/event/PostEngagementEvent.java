@@ -0,0 +1,28 @@
+package com.jiucom.api.domain.post.event;
+
+import com.jiucom.api.domain.post.entity.Post;
+import com.jiucom.api.domain.post.entity.enums.BoardType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 참여 이벤트 (조회/좋아요/댓글, 작성/삭제) - 인기 게시글 랭킹(PostRankingService) 갱신용.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostEngagementEvent {
+
+    public enum Type { CREATED, VIEW, LIKE, COMMENT, DELETED }
+
+    private final Long postId;
+    private final BoardType boardType;
+    private final LocalDateTime createdAt;
+    private final Type type;
+    private final int delta;   // +1, 좋아요 취소/댓글 삭제는 -1
+
+    public static PostEngagementEvent of(Post post, Type type, int delta) {
+        return new PostEngagementEvent(post.getId(), post.getBoardType(), post.getCreatedAt(), type, delta);
+    }
+}
@@ -4,22 +4,39 @@ import com.jiucom.api.domain.post.entity.Post;
 import com.jiucom.api.domain.post.entity.enums.BoardType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
     @Modifying
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
     void incrementViewCount(@Param("postId") Long postId);
 
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByIsDeletedFalse(Pageable pageable);
 
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByBoardTypeAndIsDeletedFalse(BoardType boardType, Pageable pageable);
 
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByTitleContainingIgnoreCaseAndIsDeletedFalse(String keyword, Pageable pageable);
 
     long countByIsDeletedFalse();
+
+    // 인기 게시글 - 랭킹 순서의 id 로 한 번에 조회 (순서는 호출 측에서 맞춘다)
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    // [id, boardType, createdAt, viewCount, likeCount, commentCount] - 랭킹 재계산용 (엔티티 로딩 없음)
+    @Query("SELECT p.id, p.boardType, p.createdAt, p.viewCount, p.likeCount, p.commentCount FROM Post p " +
+            "WHERE p.isDeleted = false AND p.createdAt >= :since")
+    List<Object[]> findEngagementSince(@Param("since") LocalDateTime since);
 }
@@ -11,5 +11,7 @@ public interface PostRepositoryCustom {
 
     Page<Post> searchPosts(String keyword, BoardType boardType, Pageable pageable);
 
+    List<Post> searchPostList(String keyword, int limit);
+
     List<String> suggestTitles(String keyword, int limit);
 }
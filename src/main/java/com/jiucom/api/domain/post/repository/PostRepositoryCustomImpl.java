@@ -45,6 +45,26 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public List<Post> searchPostList(String keyword, int limit) {
+        QPost post = QPost.post;
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(post.isDeleted.eq(false));
+
+        if (keyword != null && !keyword.isBlank()) {
+            builder.and(post.title.containsIgnoreCase(keyword)
+                    .or(post.content.containsIgnoreCase(keyword)));
+        }
+
+        // 통합 검색용 - COUNT 없이 상위 N건만, 작성자 fetch join
+        return queryFactory.selectFrom(post)
+                .join(post.author).fetchJoin()
+                .where(builder)
+                .orderBy(post.createdAt.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public List<String> suggestTitles(String keyword, int limit) {
         QPost post = QPost.post;
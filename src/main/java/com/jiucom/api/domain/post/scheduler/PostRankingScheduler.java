@@ -0,0 +1,27 @@
+package com.jiucom.api.domain.post.scheduler;
+
+import com.jiucom.api.domain.post.service.PostRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRankingScheduler {
+
+    private final PostRankingService postRankingService;
+
+    // 기동 직후 1회 + 주기적으로 DB 카운터 기준 재계산 (증분 갱신 누락 보정, 창 밖 게시글 정리)
+    @Scheduled(initialDelayString = "${post.hot.rebuild-initial-delay-ms:10000}",
+            fixedDelayString = "${post.hot.rebuild-interval-ms:3600000}")
+    public void rebuildHotPosts() {
+        try {
+            int count = postRankingService.rebuild();
+            log.info("인기 게시글 랭킹 재계산 완료: {} posts", count);
+        } catch (Exception e) {
+            log.warn("인기 게시글 랭킹 재계산 실패: {}", e.getMessage());
+        }
+    }
+}
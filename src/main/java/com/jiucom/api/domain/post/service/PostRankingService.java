@@ -0,0 +1,148 @@
+package com.jiucom.api.domain.post.service;
+
+import com.jiucom.api.domain.post.dto.response.PostListResponse;
+import com.jiucom.api.domain.post.entity.Post;
+import com.jiucom.api.domain.post.entity.enums.BoardType;
+import com.jiucom.api.domain.post.event.PostEngagementEvent;
+import com.jiucom.api.domain.post.repository.PostRepository;
+import com.jiucom.api.global.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기(hot) 게시글 랭킹 - Redis sorted set (게시판별 + 전체), 조회는 ZREVRANGE 한 번 (O(log n + size)).
+ * 점수 = log2(1 + 가중 참여도) + 작성시각 / 반감기.
+ * (1 + 참여도) · 2^(-경과시간 / 반감기) 와 순서가 같아서, 시간이 지나도 기존 점수를 다시 계산할 필요가 없다.
+ * 조회/좋아요/댓글 이벤트마다 커밋 후 증분 갱신하고, 주기적으로 DB 카운터 기준으로 재계산(오차 보정 + 크기 제한)한다.
+ * 트랜잭션 이벤트 리스너가 있어 클래스 단위 @Transactional 을 두지 않는다 (리포지토리 호출 단위 트랜잭션).
+ */
+@Slf4j
+@Service
+public class PostRankingService {
+
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final RedisUtil redisUtil;
+
+    private final double halfLifeSeconds;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final Duration window;
+    private final int maxSize;
+
+    public PostRankingService(PostRepository postRepository,
+                              PostService postService,
+                              RedisUtil redisUtil,
+                              @Value("${post.hot.half-life:24h}") Duration halfLife,
+                              @Value("${post.hot.weight.view:1}") double viewWeight,
+                              @Value("${post.hot.weight.like:5}") double likeWeight,
+                              @Value("${post.hot.weight.comment:3}") double commentWeight,
+                              @Value("${post.hot.window:7d}") Duration window,
+                              @Value("${post.hot.max-size:1000}") int maxSize) {
+        this.postRepository = postRepository;
+        this.postService = postService;
+        this.redisUtil = redisUtil;
+        this.halfLifeSeconds = halfLife.toSeconds();
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.window = window;
+        this.maxSize = maxSize;
+    }
+
+    public Page<PostListResponse> getHotPosts(String boardType, int page, int size) {
+        BoardType type = (boardType != null && !boardType.isBlank()) ? BoardType.valueOf(boardType.toUpperCase()) : null;
+        long start = (long) page * size;
+        List<Long> ids = redisUtil.getHotPostIds(type, start, start + size - 1);
+        Long total = ids != null ? redisUtil.getHotPostCount(type) : null;
+        if (ids == null || total == null) {
+            // Redis 장애 - 최신순 목록으로 대체
+            return postService.getPosts(boardType, page, size);
+        }
+
+        Map<Long, Post> posts = ids.isEmpty() ? Map.of() : postRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostListResponse> content = ids.stream()
+                .map(posts::get)
+                .filter(post -> post != null && !post.isDeleted())
+                .map(PostListResponse::from)
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        if (event.getType() == PostEngagementEvent.Type.DELETED) {
+            redisUtil.removeHotPost(event.getBoardType(), event.getPostId());
+            return;
+        }
+        if (event.getCreatedAt() == null) return;
+        redisUtil.recordHotPostEngagement(event.getBoardType(), event.getPostId(),
+                weightOf(event.getType()) * event.getDelta(), ageOffset(event.getCreatedAt()));
+    }
+
+    /**
+     * window 안의 게시글로 랭킹을 다시 만든다 (DB 카운터 기준). 반환: 적재한 게시글 수.
+     */
+    public int rebuild() {
+        Map<BoardType, Map<Long, Double>> scores = new HashMap<>();
+        Map<Long, Double> all = new HashMap<>();
+        Map<Long, Double> engagements = new HashMap<>();
+
+        List<Object[]> rows = postRepository.findEngagementSince(LocalDateTime.now().minus(window));
+        for (Object[] row : rows) {
+            Long postId = (Long) row[0];
+            double engagement = ((Number) row[3]).intValue() * viewWeight
+                    + ((Number) row[4]).intValue() * likeWeight
+                    + ((Number) row[5]).intValue() * commentWeight;
+            double score = score(engagement, (LocalDateTime) row[2]);
+            scores.computeIfAbsent((BoardType) row[1], k -> new HashMap<>()).put(postId, score);
+            all.put(postId, score);
+            engagements.put(postId, engagement);
+        }
+        scores.put(null, top(all));
+        scores.replaceAll((boardType, boardScores) -> top(boardScores));
+
+        redisUtil.replaceHotPostRanking(scores, engagements);
+        return rows.size();
+    }
+
+    double score(double engagement, LocalDateTime createdAt) {
+        return Math.log1p(Math.max(0, engagement)) / Math.log(2) + ageOffset(createdAt);
+    }
+
+    private double ageOffset(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toEpochSecond() / halfLifeSeconds;
+    }
+
+    private double weightOf(PostEngagementEvent.Type type) {
+        return switch (type) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case COMMENT -> commentWeight;
+            case CREATED, DELETED -> 0;
+        };
+    }
+
+    private Map<Long, Double> top(Map<Long, Double> scores) {
+        if (scores.size() <= maxSize) return scores;
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(maxSize)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
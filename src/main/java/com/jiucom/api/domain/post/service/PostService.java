@@ -7,14 +7,20 @@ import com.jiucom.api.domain.post.dto.response.PostDetailResponse;
 import com.jiucom.api.domain.post.dto.response.PostListResponse;
 import com.jiucom.api.domain.post.entity.Post;
 import com.jiucom.api.domain.post.entity.enums.BoardType;
+import com.jiucom.api.domain.post.event.PostEngagementEvent;
 import com.jiucom.api.domain.post.repository.PostRepository;
 import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.repository.UserRepository;
+import com.jiucom.api.global.etag.EtagResource;
+import com.jiucom.api.global.etag.ResourceNotModifiedEvent;
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
 import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.SecurityUtil;
+import com.jiucom.api.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +37,7 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<PostListResponse> getPosts(String boardType, int page, int size) {
         // Check cache
@@ -82,6 +89,9 @@ public class PostService {
         // Check cache
         PostDetailResponse cached = redisUtil.getCachedPostDetail(postId);
         if (cached != null) {
+            eventPublisher.publishEvent(new PostEngagementEvent(cached.getId(),
+                    BoardType.valueOf(cached.getBoardType()), cached.getCreatedAt(), PostEngagementEvent.Type.VIEW, 1));
+
             // Return cached version with incremented viewCount
             return PostDetailResponse.builder()
                     .id(cached.getId())
@@ -103,6 +113,8 @@ public class PostService {
                 .filter(p -> !p.isDeleted())
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.POST_NOT_FOUND));
 
+        eventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementEvent.Type.VIEW, 1));
+
         PostDetailResponse response = PostDetailResponse.from(post);
 
         // Store in cache
@@ -111,6 +123,15 @@ public class PostService {
         return response;
     }
 
+    // 304 응답(ETag 일치)도 조회수는 집계
+    @EventListener
+    @Transactional
+    public void onPostNotModified(ResourceNotModifiedEvent event) {
+        if (event.getResource() == EtagResource.POST_DETAIL) {
+            postRepository.incrementViewCount(event.getId());
+        }
+    }
+
     @Transactional
     public PostDetailResponse createPost(PostCreateRequest request) {
         Long userId = SecurityUtil.getCurrentUserId();
@@ -126,8 +147,9 @@ public class PostService {
 
         postRepository.save(post);
 
-        // Invalidate list caches
-        redisUtil.evictAllPostLists();
+        // Invalidate list caches (after commit)
+        TransactionUtil.afterCommit(redisUtil::evictAllPostLists);
+        eventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementEvent.Type.CREATED, 1));
 
         return PostDetailResponse.from(post);
     }
@@ -153,9 +175,11 @@ public class PostService {
             post.updateBoardType(request.getBoardType());
         }
 
-        // Invalidate caches
-        redisUtil.evictPostDetail(postId);
-        redisUtil.evictAllPostLists();
+        // Invalidate caches (after commit)
+        TransactionUtil.afterCommit(() -> {
+            redisUtil.evictPostDetail(postId);
+            redisUtil.evictAllPostLists();
+        });
 
         return PostDetailResponse.from(post);
     }
@@ -173,8 +197,11 @@ public class PostService {
 
         post.softDelete();
 
-        // Invalidate caches
-        redisUtil.evictPostDetail(postId);
-        redisUtil.evictAllPostLists();
+        // Invalidate caches (after commit)
+        TransactionUtil.afterCommit(() -> {
+            redisUtil.evictPostDetail(postId);
+            redisUtil.evictAllPostLists();
+        });
+        eventPublisher.publishEvent(PostEngagementEvent.of(post, PostEngagementEvent.Type.DELETED, 1));
     }
 }
@@ -6,6 +6,8 @@ import com.jiucom.api.domain.price.dto.response.PriceComparisonResponse;
 import com.jiucom.api.domain.price.dto.response.PriceHistoryResponse;
 import com.jiucom.api.domain.price.service.PriceAlertService;
 import com.jiucom.api.domain.price.service.PriceService;
+import com.jiucom.api.global.etag.ConditionalGet;
+import com.jiucom.api.global.etag.EtagResource;
 import com.jiucom.api.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +29,7 @@ public class PriceController {
 
     @Operation(summary = "부품 가격 비교 조회")
     @GetMapping("/parts/{partId}")
+    @ConditionalGet(value = EtagResource.PRICE_COMPARISON, idVariable = "partId")
     public ResponseEntity<ApiResponse<PriceComparisonResponse>> getPriceComparison(
             @PathVariable Long partId) {
         return ResponseEntity.ok(ApiResponse.ok(priceService.getPriceComparison(partId)));
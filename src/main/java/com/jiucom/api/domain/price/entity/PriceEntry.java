@@ -15,7 +15,9 @@ import lombok.*;
 public class PriceEntry extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "price_entries_id")
+    @TableGenerator(name = "price_entries_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "price_entries", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
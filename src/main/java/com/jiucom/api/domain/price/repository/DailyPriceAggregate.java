@@ -0,0 +1,19 @@
+package com.jiucom.api.domain.price.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 가격 집계 (JPQL constructor expression).
+ */
+@Getter
+@AllArgsConstructor
+public class DailyPriceAggregate {
+
+    private LocalDate recordDate;
+    private Integer lowestPrice;
+    private Integer highestPrice;
+    private Double averagePrice;
+}
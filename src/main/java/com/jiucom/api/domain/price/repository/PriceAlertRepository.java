@@ -2,13 +2,25 @@ package com.jiucom.api.domain.price.repository;
 
 import com.jiucom.api.domain.price.entity.PriceAlert;
 import com.jiucom.api.domain.user.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long> {
 
+    @EntityGraph(attributePaths = "part")
     List<PriceAlert> findByUserAndIsActiveTrue(User user);
 
     List<PriceAlert> findByPartIdAndIsActiveTrueAndIsTriggeredFalse(Long partId);
+
+    // 추천 - 알림을 건 부품은 해제/발송 후에도 관심 부품으로 본다
+    @Query("SELECT a.part.id FROM PriceAlert a WHERE a.user.id = :userId")
+    List<Long> findPartIdsByUserId(@Param("userId") Long userId);
+
+    // [userId, partId] - 추천 행렬 재계산용
+    @Query("SELECT a.user.id, a.part.id FROM PriceAlert a")
+    List<Object[]> findAllUserPartIds();
 }
@@ -2,12 +2,20 @@ package com.jiucom.api.domain.price.repository;
 
 import com.jiucom.api.domain.price.entity.PriceHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface PriceHistoryRepository extends JpaRepository<PriceHistory, Long> {
 
-    List<PriceHistory> findByPartIdAndRecordDateBetweenOrderByRecordDateAsc(
-            Long partId, LocalDate startDate, LocalDate endDate);
+    // 판매처별 원본 행을 로딩하지 않고 DB 에서 일별로 집계 (기간과 무관하게 하루 1행)
+    @Query("SELECT new com.jiucom.api.domain.price.repository.DailyPriceAggregate(" +
+            "h.recordDate, MIN(h.price), MAX(h.price), AVG(h.price)) " +
+            "FROM PriceHistory h WHERE h.part.id = :partId AND h.recordDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY h.recordDate ORDER BY h.recordDate")
+    List<DailyPriceAggregate> findDailyAggregates(@Param("partId") Long partId,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
 }
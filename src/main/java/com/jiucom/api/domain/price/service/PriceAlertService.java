@@ -1,6 +1,7 @@
 package com.jiucom.api.domain.price.service;
 
 import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.event.PartInterestChangedEvent;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.price.dto.request.PriceAlertCreateRequest;
 import com.jiucom.api.domain.price.dto.response.PriceAlertResponse;
@@ -15,6 +16,7 @@ import com.jiucom.api.global.exception.code.GlobalErrorCode;
 import com.jiucom.api.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,7 @@ public class PriceAlertService {
     private final UserRepository userRepository;
     private final PriceEntryRepository priceEntryRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PriceAlertResponse createAlert(PriceAlertCreateRequest request) {
@@ -47,6 +50,7 @@ public class PriceAlertService {
                 .build();
 
         priceAlertRepository.save(alert);
+        eventPublisher.publishEvent(PartInterestChangedEvent.added(userId, List.of(part.getId())));
 
         return PriceAlertResponse.from(alert, part.getLowestPrice());
     }
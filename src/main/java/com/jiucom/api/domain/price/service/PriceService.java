@@ -1,11 +1,11 @@
 package com.jiucom.api.domain.price.service;
 
 import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.event.PartPriceChangedEvent;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.price.dto.response.PriceComparisonResponse;
 import com.jiucom.api.domain.price.dto.response.PriceHistoryResponse;
 import com.jiucom.api.domain.price.entity.PriceEntry;
-import com.jiucom.api.domain.price.entity.PriceHistory;
 import com.jiucom.api.domain.price.repository.PriceEntryRepository;
 import com.jiucom.api.domain.price.repository.PriceHistoryRepository;
 import com.jiucom.api.global.exception.GlobalException;
@@ -14,13 +14,14 @@ import com.jiucom.api.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -77,6 +78,14 @@ public class PriceService {
         return response;
     }
 
+    // 최저가가 바뀌면 가격 비교/부품 상세 캐시와 ETag 버전을 함께 무효화.
+    // 커밋 후 실행 - 커밋 전에 지우면 그 사이 조회가 이전 가격/ETag 를 TTL 동안 다시 캐시한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPartPriceChanged(PartPriceChangedEvent event) {
+        redisUtil.evictPartPriceCaches(event.getPartId());
+    }
+
     public PriceHistoryResponse getPriceHistory(Long partId, String period) {
         Part part = partRepository.findById(partId)
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.PART_NOT_FOUND));
@@ -85,27 +94,14 @@ public class PriceService {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days);
 
-        List<PriceHistory> histories = priceHistoryRepository
-                .findByPartIdAndRecordDateBetweenOrderByRecordDateAsc(partId, startDate, endDate);
-
-        // 일별 집계
-        Map<LocalDate, List<PriceHistory>> grouped = histories.stream()
-                .collect(Collectors.groupingBy(PriceHistory::getRecordDate));
-
-        List<PriceHistoryResponse.DailyPricePoint> points = grouped.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> {
-                    List<PriceHistory> dayPrices = entry.getValue();
-                    int min = dayPrices.stream().mapToInt(PriceHistory::getPrice).min().orElse(0);
-                    int max = dayPrices.stream().mapToInt(PriceHistory::getPrice).max().orElse(0);
-                    int avg = (int) dayPrices.stream().mapToInt(PriceHistory::getPrice).average().orElse(0);
-                    return PriceHistoryResponse.DailyPricePoint.builder()
-                            .date(entry.getKey())
-                            .lowestPrice(min)
-                            .highestPrice(max)
-                            .averagePrice(avg)
-                            .build();
-                })
+        List<PriceHistoryResponse.DailyPricePoint> points = priceHistoryRepository
+                .findDailyAggregates(partId, startDate, endDate).stream()
+                .map(day -> PriceHistoryResponse.DailyPricePoint.builder()
+                        .date(day.getRecordDate())
+                        .lowestPrice(day.getLowestPrice())
+                        .highestPrice(day.getHighestPrice())
+                        .averagePrice(day.getAveragePrice() != null ? day.getAveragePrice().intValue() : 0)
+                        .build())
                 .toList();
 
         return PriceHistoryResponse.builder()
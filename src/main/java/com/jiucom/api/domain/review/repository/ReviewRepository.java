@@ -1,13 +1,28 @@
 package com.jiucom.api.domain.review.repository;
 
 import com.jiucom.api.domain.review.entity.Review;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Page<Review> findByPartIdAndIsDeletedFalse(Long partId, Pageable pageable);
 
     boolean existsByAuthorIdAndPartId(Long authorId, Long partId);
+
+    // 잠글 부품 id - 엔티티를 영속성 컨텍스트에 올리지 않아야 잠금 후 조회가 최신 상태를 읽는다
+    @Query("SELECT r.part.id FROM Review r WHERE r.id = :id")
+    Optional<Long> findPartIdById(@Param("id") Long id);
+
+    // 평점 수정/삭제용 - 부품 잠금 이후에 호출 (SELECT ... FOR UPDATE 로 커밋된 최신 평점/삭제 여부)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") Long id);
 }
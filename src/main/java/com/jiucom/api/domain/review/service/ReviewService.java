@@ -11,7 +11,9 @@ import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.repository.UserRepository;
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.SecurityUtil;
+import com.jiucom.api.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -20,6 +22,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -28,6 +32,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final PartRepository partRepository;
     private final UserRepository userRepository;
+    private final RedisUtil redisUtil;
 
     public Page<ReviewResponse> getReviews(Long partId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -41,7 +46,8 @@ public class ReviewService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.USER_NOT_FOUND));
 
-        Part part = partRepository.findById(request.getPartId())
+        // 평점 집계 갱신 - 같은 부품의 리뷰 쓰기는 parts 행 잠금으로 직렬화
+        Part part = partRepository.findByIdForUpdate(request.getPartId())
                 .filter(p -> !p.isDeleted())
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.PART_NOT_FOUND));
 
@@ -57,22 +63,31 @@ public class ReviewService {
                 .build();
 
         reviewRepository.save(review);
+        part.addReviewRating(review.getRating());
+        evictPartDetailAfterCommit(part.getId());
+
         return ReviewResponse.from(review);
     }
 
     @Transactional
     public ReviewResponse updateReview(Long reviewId, ReviewUpdateRequest request) {
         Long userId = SecurityUtil.getCurrentUserId();
-        Review review = reviewRepository.findById(reviewId)
-                .filter(r -> !r.isDeleted())
-                .orElseThrow(() -> new GlobalException(GlobalErrorCode.REVIEW_NOT_FOUND));
-
-        if (!review.getAuthor().getId().equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.REVIEW_NOT_AUTHOR);
+        if (request.getRating() == null) {
+            Review review = getOwnedReview(reviewRepository.findById(reviewId), userId);
+            if (request.getContent() != null) {
+                review.updateContent(request.getContent());
+            }
+            return ReviewResponse.from(review);
         }
 
-        if (request.getRating() != null) {
+        // 평점 변경 - 부품 잠금 후 다시 읽은 평점 기준으로 집계 갱신 (동시 수정 시 이전 평점이 어긋나지 않도록)
+        Part part = lockPart(reviewId);
+        Review review = getOwnedReview(reviewRepository.findByIdForUpdate(reviewId), userId);
+
+        if (request.getRating() != review.getRating()) {
+            part.changeReviewRating(review.getRating(), request.getRating());
             review.updateRating(request.getRating());
+            evictPartDetailAfterCommit(part.getId());
         }
         if (request.getContent() != null) {
             review.updateContent(request.getContent());
@@ -84,14 +99,35 @@ public class ReviewService {
     @Transactional
     public void deleteReview(Long reviewId) {
         Long userId = SecurityUtil.getCurrentUserId();
-        Review review = reviewRepository.findById(reviewId)
+        // 부품 잠금 후 삭제 여부를 다시 확인 - 동시 삭제가 집계를 두 번 빼지 않도록
+        Part part = lockPart(reviewId);
+        Review review = getOwnedReview(reviewRepository.findByIdForUpdate(reviewId), userId);
+
+        review.softDelete();
+        part.removeReviewRating(review.getRating());
+        evictPartDetailAfterCommit(part.getId());
+    }
+
+    // 커밋 전에 지우면 그 사이 조회가 이전 평점의 상세/ETag 를 다시 캐시한다
+    private void evictPartDetailAfterCommit(Long partId) {
+        TransactionUtil.afterCommit(() -> redisUtil.evictPartDetail(partId));
+    }
+
+    private Review getOwnedReview(Optional<Review> found, Long userId) {
+        Review review = found
                 .filter(r -> !r.isDeleted())
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.REVIEW_NOT_FOUND));
-
         if (!review.getAuthor().getId().equals(userId)) {
             throw new GlobalException(GlobalErrorCode.REVIEW_NOT_AUTHOR);
         }
+        return review;
+    }
 
-        review.softDelete();
+    // 잠금 순서는 createReview 와 같이 부품 → 리뷰
+    private Part lockPart(Long reviewId) {
+        Long partId = reviewRepository.findPartIdById(reviewId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.REVIEW_NOT_FOUND));
+        return partRepository.findByIdForUpdate(partId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.PART_NOT_FOUND));
     }
 }
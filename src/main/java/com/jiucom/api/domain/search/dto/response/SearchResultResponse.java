@@ -15,6 +15,10 @@ public class SearchResultResponse {
     private List<PostResult> posts;
     private List<BuildResult> builds;
 
+    // 제한 시간 내 응답하지 못한 소스가 있으면 true (해당 소스는 빈 목록)
+    private boolean partial;
+    private List<String> incompleteSources;
+
     @Getter
     @AllArgsConstructor
     @Builder
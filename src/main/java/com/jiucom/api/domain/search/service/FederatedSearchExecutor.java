@@ -0,0 +1,118 @@
+package com.jiucom.api.domain.search.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.ResourceHolderSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 통합 검색 하위 검색을 searchExecutor 로 동시에 실행한다.
+ * 하위 검색마다 시작 시점 기준 deadline 을 가지며, 넘기면 빈 결과 + partial 로 응답한다.
+ * deadline 을 넘긴 하위 검색은 FutureTask.cancel(true) 로 실행 스레드를 interrupt 하고(대기 중이면 실행하지 않음),
+ * DB 에서는 남은 시간으로 맞춘 쿼리 타임아웃으로 중단된다. 풀이 가득 차 거절되면 요청 스레드에서 실행하지 않고 바로 partial.
+ */
+@Slf4j
+@Component
+public class FederatedSearchExecutor {
+
+    private final Executor searchExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMs;
+
+    public FederatedSearchExecutor(@Qualifier("searchExecutor") Executor searchExecutor,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${search.timeout-ms:1500}") long timeoutMs) {
+        this.searchExecutor = searchExecutor;
+        this.timeoutMs = timeoutMs;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // deadline 을 넘긴 쿼리는 DB 에서도 중단되도록 트랜잭션 타임아웃(쿼리 타임아웃 힌트) 적용 - 시작 시 남은 시간으로 다시 맞춘다
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs + 999)));
+    }
+
+    private <T> List<T> execute(Supplier<List<T>> query, long deadline) {
+        return readOnlyTransaction.execute(status -> {
+            // 큐에서 기다린 시간만큼 줄어든 남은 시간 - JPA/JDBC 쿼리 타임아웃이 이 값으로 계산된다 (JDBC 는 초 단위 올림)
+            long remainingMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            TransactionSynchronizationManager.getResourceMap().values().forEach(resource -> {
+                if (resource instanceof ResourceHolderSupport holder) {
+                    holder.setTimeoutInMillis(remainingMs);
+                }
+            });
+            return query.get();
+        });
+    }
+
+    public FederatedSearch begin() {
+        return new FederatedSearch();
+    }
+
+    public class FederatedSearch {
+
+        private final List<String> incompleteSources = Collections.synchronizedList(new ArrayList<>());
+
+        public <T> SubSearch<T> fork(String source, Supplier<List<T>> query) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            FutureTask<List<T>> task = new FutureTask<>(() -> execute(query, deadline));
+            try {
+                searchExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.warn("Search source '{}' rejected: executor saturated", source);
+                task.cancel(false);
+            }
+            return new SubSearch<>(this, source, task, deadline);
+        }
+
+        public boolean isPartial() {
+            return !incompleteSources.isEmpty();
+        }
+
+        public List<String> getIncompleteSources() {
+            return List.copyOf(incompleteSources);
+        }
+    }
+
+    public static class SubSearch<T> {
+
+        private final FederatedSearch search;
+        private final String source;
+        private final Future<List<T>> future;
+        private final long deadline;
+
+        private SubSearch(FederatedSearch search, String source, Future<List<T>> future, long deadline) {
+            this.search = search;
+            this.source = source;
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        public List<T> join() {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                List<T> result = future.get(remaining, TimeUnit.NANOSECONDS);
+                return result != null ? result : List.of();
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Search source '{}' exceeded its deadline", source);
+            } catch (ExecutionException e) {
+                log.warn("Search source '{}' failed: {}", source, e.getCause().getMessage());
+            } catch (CancellationException e) {
+                // 거절된 하위 검색 (fork 에서 이미 기록)
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            search.incompleteSources.add(source);
+            return List.of();
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.jiucom.api.domain.search.service;
 
 import com.jiucom.api.domain.build.entity.Build;
 import com.jiucom.api.domain.build.repository.BuildRepository;
-import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.dto.response.PartListResponse;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.post.entity.Post;
 import com.jiucom.api.domain.post.repository.PostRepository;
@@ -12,9 +12,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,23 +26,33 @@ public class SearchService {
     private final PartRepository partRepository;
     private final PostRepository postRepository;
     private final BuildRepository buildRepository;
+    private final FederatedSearchExecutor federatedSearchExecutor;
 
+    /**
+     * 부품/게시글/견적 검색을 동시에 실행 (응답 시간 = 가장 느린 하위 검색).
+     * 응답에 총 건수가 없으므로 COUNT 쿼리는 실행하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SearchResultResponse search(String keyword, int size) {
         Pageable pageable = PageRequest.of(0, size);
+        FederatedSearchExecutor.FederatedSearch search = federatedSearchExecutor.begin();
 
-        List<Part> parts = partRepository.searchParts(keyword, null, null, null, pageable).getContent();
-        List<Post> posts = postRepository.searchPosts(keyword, null, pageable).getContent();
-        List<Build> builds = buildRepository.findByIsPublicTrueAndIsDeletedFalse(pageable).getContent()
-                .stream()
-                .filter(b -> keyword == null || keyword.isBlank()
-                        || b.getName().toLowerCase().contains(keyword.toLowerCase())
-                        || (b.getDescription() != null && b.getDescription().toLowerCase().contains(keyword.toLowerCase())))
-                .toList();
+        var parts = search.fork("parts", () ->
+                partRepository.searchPartList(keyword, null, null, null, Map.of(), pageable)
+                        .stream().map(this::toPartResult).toList());
+        var posts = search.fork("posts", () ->
+                postRepository.searchPostList(keyword, size)
+                        .stream().map(this::toPostResult).toList());
+        var builds = search.fork("builds", () ->
+                buildRepository.searchBuilds(keyword, size)
+                        .stream().map(this::toBuildResult).toList());
 
         return SearchResultResponse.builder()
-                .parts(parts.stream().map(this::toPartResult).toList())
-                .posts(posts.stream().map(this::toPostResult).toList())
-                .builds(builds.stream().map(this::toBuildResult).toList())
+                .parts(parts.join())
+                .posts(posts.join())
+                .builds(builds.join())
+                .partial(search.isPartial())
+                .incompleteSources(search.getIncompleteSources())
                 .build();
     }
 
@@ -54,11 +66,11 @@ public class SearchService {
                 .build();
     }
 
-    private SearchResultResponse.PartResult toPartResult(Part part) {
+    private SearchResultResponse.PartResult toPartResult(PartListResponse part) {
         return SearchResultResponse.PartResult.builder()
                 .id(part.getId())
                 .name(part.getName())
-                .category(part.getCategory().name())
+                .category(part.getCategory())
                 .manufacturer(part.getManufacturer())
                 .lowestPrice(part.getLowestPrice())
                 .imageUrl(part.getImageUrl())
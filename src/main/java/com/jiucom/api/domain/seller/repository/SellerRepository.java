@@ -2,13 +2,21 @@ package com.jiucom.api.domain.seller.repository;
 
 import com.jiucom.api.domain.seller.entity.Seller;
 import com.jiucom.api.domain.seller.entity.enums.SellerStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface SellerRepository extends JpaRepository<Seller, Long> {
 
+    // 가격 수집 시 항목마다 호출 - 쿼리 캐시 (sellers 테이블 변경 시 Hibernate 가 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "seller.query")
+    })
     Optional<Seller> findByName(String name);
 
     List<Seller> findByStatus(SellerStatus status);
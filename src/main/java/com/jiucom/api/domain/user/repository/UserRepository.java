@@ -1,13 +1,23 @@
 package com.jiucom.api.domain.user.repository;
 
+import com.jiucom.api.domain.admin.dto.response.UserExportResponse;
 import com.jiucom.api.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user.query")
+    })
     Optional<User> findByEmail(String email);
 
     Optional<User> findByNickname(String nickname);
@@ -16,7 +26,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user.query")
+    })
     Optional<User> findBySocialTypeAndSocialId(com.jiucom.api.domain.user.entity.enums.SocialType socialType, String socialId);
 
     long countByCreatedAtAfter(LocalDateTime dateTime);
+
+    // DTO 로 커서 조회 - 영속성 컨텍스트에 엔티티가 쌓이지 않음 (prod 는 useCursorFetch 로 fetch size 단위 전송)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.jiucom.api.domain.admin.dto.response.UserExportResponse(" +
+            "u.id, u.email, u.nickname, u.role, u.status, u.createdAt) FROM User u ORDER BY u.id")
+    Stream<UserExportResponse> streamAllForExport();
 }
@@ -1,11 +1,9 @@
 package com.jiucom.api.global.actuator;
 
-import com.jiucom.api.domain.part.repository.PartRepository;
-import com.jiucom.api.domain.post.repository.PostRepository;
-import com.jiucom.api.domain.user.repository.UserRepository;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,22 +16,27 @@ public class CustomMetricsConfig {
     }
 
     @Bean
-    public Gauge totalUsersGauge(MeterRegistry registry, UserRepository userRepository) {
-        return Gauge.builder("jiucom.users.total", userRepository::count)
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new QueryCountInspector());
+    }
+
+    @Bean
+    public Gauge totalUsersGauge(MeterRegistry registry, EntityCountCache entityCountCache) {
+        return Gauge.builder("jiucom.users.total", entityCountCache, EntityCountCache::getUsers)
                 .description("Total registered users")
                 .register(registry);
     }
 
     @Bean
-    public Gauge totalPartsGauge(MeterRegistry registry, PartRepository partRepository) {
-        return Gauge.builder("jiucom.parts.total", partRepository::count)
+    public Gauge totalPartsGauge(MeterRegistry registry, EntityCountCache entityCountCache) {
+        return Gauge.builder("jiucom.parts.total", entityCountCache, EntityCountCache::getParts)
                 .description("Total parts in database")
                 .register(registry);
     }
 
     @Bean
-    public Gauge totalPostsGauge(MeterRegistry registry, PostRepository postRepository) {
-        return Gauge.builder("jiucom.posts.total", postRepository::count)
+    public Gauge totalPostsGauge(MeterRegistry registry, EntityCountCache entityCountCache) {
+        return Gauge.builder("jiucom.posts.total", entityCountCache, EntityCountCache::getPosts)
                 .description("Total posts in database")
                 .register(registry);
     }
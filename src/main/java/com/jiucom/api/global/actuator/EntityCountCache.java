@@ -0,0 +1,51 @@
+package com.jiucom.api.global.actuator;
+
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.post.repository.PostRepository;
+import com.jiucom.api.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 총계 gauge 용 캐시. Prometheus scrape 마다 COUNT 를 실행하지 않도록 주기적으로만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCountCache {
+
+    private final UserRepository userRepository;
+    private final PartRepository partRepository;
+    private final PostRepository postRepository;
+
+    private final AtomicLong users = new AtomicLong();
+    private final AtomicLong parts = new AtomicLong();
+    private final AtomicLong posts = new AtomicLong();
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${metrics.entity-count.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            users.set(userRepository.count());
+            parts.set(partRepository.count());
+            posts.set(postRepository.count());
+        } catch (Exception e) {
+            log.warn("Entity count refresh failed: {}", e.getMessage());
+        }
+    }
+
+    public long getUsers() {
+        return users.get();
+    }
+
+    public long getParts() {
+        return parts.get();
+    }
+
+    public long getPosts() {
+        return posts.get();
+    }
+}
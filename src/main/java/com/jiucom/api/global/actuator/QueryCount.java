@@ -0,0 +1,61 @@
+package com.jiucom.api.global.actuator;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Getter
+public class QueryCount {
+
+    private int select;
+    private int insert;
+    private int update;
+    private int delete;
+    private int other;
+
+    // 같은 SELECT 문(바인딩 전 SQL)이 몇 번 실행됐는지 - N+1 탐지용
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> selectRepeats = new HashMap<>();
+
+    void record(String sql) {
+        String head = sql.stripLeading();
+        head = head.substring(0, Math.min(6, head.length())).toLowerCase(Locale.ROOT);
+        switch (head) {
+            case "select" -> {
+                select++;
+                selectRepeats.merge(sql, 1, Integer::sum);
+            }
+            case "insert" -> insert++;
+            case "update" -> update++;
+            case "delete" -> delete++;
+            default -> other++;
+        }
+    }
+
+    public int getTotal() {
+        return select + insert + update + delete + other;
+    }
+
+    /**
+     * 가장 많이 반복된 SELECT 문의 실행 횟수 (0 = SELECT 없음)
+     */
+    public int getMaxRepeatedSelect() {
+        return selectRepeats.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    public String getMostRepeatedSelect() {
+        return selectRepeats.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    @Override
+    public String toString() {
+        return getTotal() + " (select=" + select + ", insert=" + insert
+                + ", update=" + update + ", delete=" + delete + ", other=" + other + ")";
+    }
+}
@@ -0,0 +1,37 @@
+package com.jiucom.api.global.actuator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청에서 실행된 SQL 수를 X-Query-Count 헤더로 노출 (dev/test 전용).
+ * 본문을 쓰기 직전에 붙이므로 응답 직렬화 중 지연 로딩으로 나가는 쿼리는 포함되지 않는다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "metrics.query-count.response-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryCount count = QueryCountInspector.current();
+        if (count != null) {
+            response.getHeaders().set(HEADER, String.valueOf(count.getTotal()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,37 @@
+package com.jiucom.api.global.actuator;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 현재 스레드의 QueryCount 에 집계한다 (SQL 은 변경하지 않음).
+ * begin() ~ end() 사이에서만 집계하며, 다른 스레드(통합 검색 하위 검색 등)의 쿼리는 포함되지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count != null) {
+            count.record(sql);
+        }
+        return sql;
+    }
+
+    public static QueryCount begin() {
+        QueryCount count = new QueryCount();
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static QueryCount current() {
+        return CURRENT.get();
+    }
+
+    public static QueryCount end() {
+        QueryCount count = CURRENT.get();
+        CURRENT.remove();
+        return count;
+    }
+}
@@ -0,0 +1,151 @@
+package com.jiucom.api.global.cache;
+
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.part.service.PartService;
+import com.jiucom.api.domain.post.entity.enums.BoardType;
+import com.jiucom.api.domain.post.service.PostService;
+import com.jiucom.api.domain.price.service.PriceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 시 캐시 워밍업 - 롤링 배포 직후 빈 캐시로 첫 트래픽이 MySQL 로 몰리는 것을 막는다.
+ * ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로,
+ * 워밍업이 끝나거나 timeout 이 지날 때까지 파드는 Service 엔드포인트에 들어가지 않는다 (/actuator/health/readiness).
+ * 인기 부품 상세/가격 비교(Redis + 2차 캐시), 게시판별 첫 페이지, 카테고리 목록을 병렬로 적재한다.
+ * 실패나 시간 초과는 기동을 막지 않는다 - 남은 항목은 첫 요청에서 채워진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.warm-up.enabled", havingValue = "true")
+public class CacheWarmUpRunner implements ApplicationRunner {
+
+    private final PartRepository partRepository;
+    private final PartService partService;
+    private final PriceService priceService;
+    private final PostService postService;
+    private final MeterRegistry meterRegistry;
+
+    private final int topParts;
+    private final int postPages;
+    private final int pageSize;
+    private final int parallelism;
+    private final Duration timeout;
+
+    public CacheWarmUpRunner(PartRepository partRepository,
+                             PartService partService,
+                             PriceService priceService,
+                             PostService postService,
+                             MeterRegistry meterRegistry,
+                             @Value("${cache.warm-up.top-parts:200}") int topParts,
+                             @Value("${cache.warm-up.post-pages:1}") int postPages,
+                             @Value("${cache.warm-up.page-size:20}") int pageSize,
+                             @Value("${cache.warm-up.parallelism:8}") int parallelism,
+                             @Value("${cache.warm-up.timeout:20s}") Duration timeout) {
+        this.partRepository = partRepository;
+        this.partService = partService;
+        this.priceService = priceService;
+        this.postService = postService;
+        this.meterRegistry = meterRegistry;
+        this.topParts = topParts;
+        this.postPages = postPages;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+
+        List<WarmUpTask> tasks = tasks();
+        AtomicBoolean finished = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("cache-warmup-"));
+        List<CompletableFuture<Void>> futures = new ArrayList<>(tasks.size());
+        long skipped = 0;
+        try {
+            for (WarmUpTask task : tasks) {
+                futures.add(CompletableFuture.runAsync(() -> execute(task, finished), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("캐시 워밍업 시간 초과 ({}ms) - 남은 항목은 요청 시 적재", timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // execute() 가 항목별 예외를 삼키므로 오지 않는다
+            log.warn("캐시 워밍업 실패: {}", e.getMessage());
+        } finally {
+            // 이 시점 이후 끝나는 항목은 timeout 으로만 센다 (interrupt 로 인한 실패를 error 로 중복 집계하지 않음)
+            finished.set(true);
+            for (int i = 0; i < futures.size(); i++) {
+                if (!futures.get(i).isDone()) {
+                    skipped++;
+                    meterRegistry.counter("jiucom.cache.warmup.items",
+                            "type", tasks.get(i).type(), "result", "timeout").increment();
+                }
+            }
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("jiucom.cache.warmup.duration").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("캐시 워밍업 완료: {} items, {} skipped, {}ms",
+                tasks.size(), skipped, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private List<WarmUpTask> tasks() {
+        List<WarmUpTask> tasks = new ArrayList<>();
+        tasks.add(new WarmUpTask("part_categories", partService::getAllCategories));
+
+        for (int page = 0; page < postPages; page++) {
+            int p = page;
+            tasks.add(new WarmUpTask("post_list", () -> postService.getPosts(null, p, pageSize)));
+            for (BoardType boardType : BoardType.values()) {
+                tasks.add(new WarmUpTask("post_list", () -> postService.getPosts(boardType.name(), p, pageSize)));
+            }
+        }
+
+        List<Long> partIds = List.of();
+        try {
+            partIds = partRepository.findPopularIds(PageRequest.of(0, topParts));
+        } catch (Exception e) {
+            log.warn("캐시 워밍업 - 인기 부품 조회 실패: {}", e.getMessage());
+        }
+        for (Long partId : partIds) {
+            tasks.add(new WarmUpTask("part_detail", () -> partService.getPartDetail(partId)));
+            tasks.add(new WarmUpTask("price_comparison", () -> priceService.getPriceComparison(partId)));
+        }
+        return tasks;
+    }
+
+    private void execute(WarmUpTask task, AtomicBoolean finished) {
+        String result = "ok";
+        try {
+            task.action().run();
+        } catch (Exception e) {
+            result = "error";
+            log.debug("캐시 워밍업 실패 ({}): {}", task.type(), e.getMessage());
+        }
+        if (finished.get()) return;
+        meterRegistry.counter("jiucom.cache.warmup.items", "type", task.type(), "result", result).increment();
+    }
+
+    private record WarmUpTask(String type, Runnable action) {
+    }
+}
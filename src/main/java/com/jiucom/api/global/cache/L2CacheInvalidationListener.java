@@ -0,0 +1,160 @@
+package com.jiucom.api.global.cache;
+
+import com.jiucom.api.global.util.RedisCircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hibernate 2차 캐시 파드 간 무효화 (2차 캐시는 파드마다 로컬 힙).
+ * 커밋된 캐시 대상 엔티티 변경(insert/update/delete)을 모아 flush-interval 마다 Redis 채널로 한 번에 발행하고,
+ * 다른 파드는 해당 엔티티 캐시와 같은 리전의 쿼리 캐시(<region>.query)를 비운다.
+ * 자신이 보낸 메시지는 무시한다 (로컬 변경은 Hibernate 가 직접 반영). 메시지가 유실돼도 ehcache.xml TTL 안에 수렴한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "redis.l2-cache-invalidation.enabled", havingValue = "true")
+public class L2CacheInvalidationListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, MessageListener {
+
+    public static final String CHANNEL = "hibernate:l2:invalidate";
+    private static final String QUERY_REGION_SUFFIX = ".query";
+    private static final int MAX_KEYS_PER_MESSAGE = 1000;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private SessionFactoryImplementor sessionFactory;
+
+    public L2CacheInvalidationListener(EntityManagerFactory entityManagerFactory,
+                                       RedisConnectionFactory connectionFactory,
+                                       RedisCircuitBreaker circuitBreaker,
+                                       MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    // ===== 발행 (커밋 후 - 트랜잭션 경로에서는 큐에 넣기만 한다) =====
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    // 커밋 실패 - 반영된 변경이 없으므로 발행하지 않는다
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void enqueue(EntityPersister persister, Object id) {
+        pending.add(persister.getEntityName() + "|" + id);
+    }
+
+    @Scheduled(fixedDelayString = "${redis.l2-cache-invalidation.flush-interval-ms:200}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            Set<String> keys = new LinkedHashSet<>();
+            String key;
+            while (keys.size() < MAX_KEYS_PER_MESSAGE && (key = pending.poll()) != null) {
+                keys.add(key);
+            }
+            String message = instanceId + "\n" + String.join("\n", keys);
+            try {
+                circuitBreaker.run(() -> stringRedisTemplate.convertAndSend(CHANNEL, message));
+                meterRegistry.counter("jiucom.cache.l2.invalidations", "direction", "sent").increment(keys.size());
+            } catch (Exception e) {
+                // 다른 파드는 TTL 로 수렴 - 재시도하지 않고 쌓인 항목도 버린다
+                pending.clear();
+                if (e instanceof RedisCircuitBreaker.RedisCircuitOpenException) {
+                    log.debug("2차 캐시 무효화 발행 생략 - Redis 서킷 OPEN");
+                } else {
+                    log.warn("2차 캐시 무효화 발행 실패 ({} keys): {}", keys.size(), e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    // ===== 수신 =====
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = stringRedisTemplate.getStringSerializer().deserialize(message.getBody()).split("\n");
+        if (lines.length < 2 || instanceId.equals(lines[0])) return;
+
+        CacheImplementor cache = sessionFactory.getCache();
+        Set<String> queryRegions = new HashSet<>();
+        int evicted = 0;
+        for (int i = 1; i < lines.length; i++) {
+            String[] entry = lines[i].split("\\|", 2);
+            EntityPersister persister = entry.length == 2
+                    ? sessionFactory.getMappingMetamodel().findEntityDescriptor(entry[0]) : null;
+            if (persister == null || !persister.canWriteToCache()) continue;
+
+            Object id = persister.getIdentifierMapping().getJavaType().fromString(entry[1]);
+            cache.evictEntityData(entry[0], id);
+            queryRegions.add(persister.getCacheAccessStrategy().getRegion().getName() + QUERY_REGION_SUFFIX);
+            evicted++;
+        }
+        for (String region : queryRegions) {
+            QueryResultsCache queryCache = cache.getQueryResultsCacheStrictly(region);
+            if (queryCache != null) queryCache.clear();
+        }
+        meterRegistry.counter("jiucom.cache.l2.invalidations", "direction", "received").increment(evicted);
+    }
+}
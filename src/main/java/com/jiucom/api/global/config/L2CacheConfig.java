@@ -0,0 +1,26 @@
+package com.jiucom.api.global.config;
+
+import com.jiucom.api.global.cache.L2CacheInvalidationListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 2차 캐시 무효화 구독 (리전 설정은 ehcache.xml, Hibernate 설정은 application.yml).
+ */
+@Configuration
+@ConditionalOnProperty(name = "redis.l2-cache-invalidation.enabled", havingValue = "true")
+public class L2CacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer l2CacheInvalidationContainer(RedisConnectionFactory connectionFactory,
+                                                                      L2CacheInvalidationListener listener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(L2CacheInvalidationListener.CHANNEL));
+        return container;
+    }
+}
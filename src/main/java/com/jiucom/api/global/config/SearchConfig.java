@@ -0,0 +1,45 @@
+package com.jiucom.api.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class SearchConfig {
+
+    /**
+     * 통합 검색 하위 검색(부품/게시글/견적) 병렬 실행용.
+     * 큐가 가득 차면 거절(AbortPolicy) - FederatedSearchExecutor 가 해당 소스를 빈 결과 + partial 로 응답한다.
+     * (CallerRunsPolicy 는 요청 스레드에서 deadline 없이 실행돼 응답이 늘어진다)
+     */
+    @Bean("searchExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * virtual 프로필 (Java 21+): 하위 검색마다 가상 스레드. 동시 실행 수는 DB 풀 크기 수준으로 제한.
+     */
+    @Bean("searchExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualSearchExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("search-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(64);
+        return executor;
+    }
+}
@@ -1,6 +1,11 @@
 package com.jiucom.api.global.config;
 
+import com.jiucom.api.global.actuator.QueryCountHeaderAdvice;
+import com.jiucom.api.global.etag.ConditionalGetInterceptor;
+import com.jiucom.api.global.util.RedisUtil;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -11,12 +16,19 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final HandlerInterceptor rateLimitInterceptor;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
     private final String[] allowedOrigins;
 
     public WebMvcConfig(
             HandlerInterceptor rateLimitInterceptor,
+            ObjectProvider<RedisUtil> redisUtil,
+            ApplicationEventPublisher eventPublisher,
             @Value("${cors.allowed-origins:*}") String[] allowedOrigins) {
         this.rateLimitInterceptor = rateLimitInterceptor;
+        // Not a bean: a second HandlerInterceptor bean would make the injection above ambiguous.
+        // RedisUtil is absent in @WebMvcTest slices, where conditional GETs are simply disabled.
+        RedisUtil redis = redisUtil.getIfAvailable();
+        this.conditionalGetInterceptor = redis != null ? new ConditionalGetInterceptor(redis, eventPublisher) : null;
         this.allowedOrigins = allowedOrigins;
     }
 
@@ -26,6 +38,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns(allowedOrigins)
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", QueryCountHeaderAdvice.HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -35,5 +48,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(rateLimitInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/actuator/**", "/swagger-ui/**", "/v3/api-docs/**");
+        // after rate limiting, so 304s still count against the limit
+        if (conditionalGetInterceptor != null) {
+            registry.addInterceptor(conditionalGetInterceptor);
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.jiucom.api.global.config.interceptor;
 
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.RedisCircuitBreaker;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -19,12 +20,15 @@ import java.time.Duration;
 public class RedisRateLimitInterceptor implements HandlerInterceptor {
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
     private final int maxRequestsPerMinute;
 
     public RedisRateLimitInterceptor(
             StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
             @Value("${rate-limit.max-requests:60}") int maxRequestsPerMinute) {
         this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
         this.maxRequestsPerMinute = maxRequestsPerMinute;
     }
 
@@ -34,15 +38,17 @@ public class RedisRateLimitInterceptor implements HandlerInterceptor {
         String key = "rate_limit:" + clientIp;
 
         try {
-            Long count = redisTemplate.opsForValue().increment(key);
+            Long count = circuitBreaker.execute(() -> redisTemplate.opsForValue().increment(key));
             if (count != null && count == 1) {
-                redisTemplate.expire(key, Duration.ofSeconds(60));
+                circuitBreaker.execute(() -> redisTemplate.expire(key, Duration.ofSeconds(60)));
             }
             if (count != null && count > maxRequestsPerMinute) {
                 throw new GlobalException(GlobalErrorCode.RATE_LIMIT_EXCEEDED);
             }
         } catch (GlobalException e) {
             throw e;
+        } catch (RedisCircuitBreaker.RedisCircuitOpenException e) {
+            // Redis 장애 중 - 제한 없이 통과 (요청마다 경고 로그를 남기지 않음)
         } catch (Exception e) {
             log.warn("Redis rate limit check failed, allowing request: {}", e.getMessage());
         }
@@ -0,0 +1,39 @@
+package com.jiucom.api.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    // 이 값보다 복제 지연이 크면 해당 replica 로 라우팅하지 않는다
+    private long maxLagSeconds = 5;
+
+    // 쓰기 직후 같은 사용자의 읽기는 이 시간 동안 primary 로 보낸다 (read-your-writes)
+    private long stickyPrimarySeconds = 5;
+
+    private long lagCheckIntervalMs = 5000;
+
+    // 비어 있으면 연결 확인(isValid)만 수행 (H2 등 로컬 테스트용)
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private int replicaMaximumPoolSize = 10;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
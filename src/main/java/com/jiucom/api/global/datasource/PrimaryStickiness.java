@@ -0,0 +1,48 @@
+package com.jiucom.api.global.datasource;
+
+import com.jiucom.api.global.util.RedisUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 트랜잭션을 연 사용자 → primary 고정 만료 시각.
+ * 다음 요청이 다른 파드로 가도 고정되도록 Redis 키(TTL = 고정 구간)에 기록하고,
+ * 같은 파드의 읽기는 로컬 기록으로 먼저 확인한다 (Redis 왕복 생략, Redis 장애 시에도 유지).
+ */
+public class PrimaryStickiness {
+
+    private final long windowSeconds;
+    private final long windowMillis;
+    private final RedisUtil redisUtil;
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public PrimaryStickiness(long windowSeconds, RedisUtil redisUtil) {
+        this.windowSeconds = windowSeconds;
+        this.windowMillis = windowSeconds * 1000;
+        this.redisUtil = redisUtil;
+    }
+
+    public void markWrite(Long userId) {
+        stickyUntil.put(userId, System.currentTimeMillis() + windowMillis);
+        redisUtil.markPrimarySticky(userId, windowSeconds);
+    }
+
+    public boolean isSticky(Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until != null) {
+            if (until >= System.currentTimeMillis()) {
+                return true;
+            }
+            stickyUntil.remove(userId, until);
+        }
+        return redisUtil.isPrimarySticky(userId);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until < now);
+    }
+}
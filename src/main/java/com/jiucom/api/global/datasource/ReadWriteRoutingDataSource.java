@@ -0,0 +1,79 @@
+package com.jiucom.api.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션 → 정상 replica (라운드 로빈), 그 외 → primary.
+ * 트랜잭션 시작 후 readOnly 플래그가 설정되므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaHealthMonitor healthMonitor;
+    private final PrimaryStickiness stickiness;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(ReplicaHealthMonitor healthMonitor, PrimaryStickiness stickiness,
+                                      MeterRegistry meterRegistry) {
+        this.healthMonitor = healthMonitor;
+        this.stickiness = stickiness;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                stickiness.markWrite(userId);
+            }
+            return route(PRIMARY, "write");
+        }
+        if (userId != null && stickiness.isSticky(userId)) {
+            return route(PRIMARY, "sticky");
+        }
+
+        List<String> replicas = healthMonitor.getHealthyReplicas();
+        if (replicas.isEmpty()) {
+            return route(PRIMARY, "fallback");
+        }
+        return route(replicas.get(Math.floorMod(roundRobin.getAndIncrement(), replicas.size())), "read");
+    }
+
+    private String route(String target, String reason) {
+        routeCounters.computeIfAbsent(target + ":" + reason, key -> Counter.builder("jiucom.datasource.routing")
+                        .description("Connections routed per pool")
+                        .tag("pool", target)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+            try {
+                return Long.parseLong(userDetails.getUsername());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.jiucom.api.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * replica 복제 지연 주기 점검. 지연이 허용치 이내인 replica 만 라우팅 대상으로 노출한다.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private static final double UNAVAILABLE = -1;
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaHealthMonitor(Map<String, DataSource> replicas, String lagQuery, long maxLagSeconds,
+                                MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+
+        replicas.keySet().forEach(name -> {
+            lagSeconds.put(name, UNAVAILABLE);
+            Gauge.builder("jiucom.datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, UNAVAILABLE))
+                    .description("Replica lag in seconds (-1 = unavailable)")
+                    .tag("pool", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        });
+        Gauge.builder("jiucom.datasource.replica.healthy", this, monitor -> monitor.healthyReplicas.size())
+                .description("Replicas currently eligible for read routing")
+                .register(meterRegistry);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    public Map<String, DataSource> getReplicaDataSources() {
+        return replicas;
+    }
+
+    public void close() {
+        healthyReplicas = List.of();
+        replicas.forEach((name, dataSource) -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica pool {}: {}", name, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:5000}")
+    public void check() {
+        List<String> healthy = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            double lag = measureLag(replica.getKey(), replica.getValue());
+            lagSeconds.put(replica.getKey(), lag);
+            if (lag >= 0 && lag <= maxLagSeconds) {
+                healthy.add(replica.getKey());
+            }
+        }
+        if (healthy.size() != healthyReplicas.size()) {
+            log.info("Healthy read replicas changed: {} -> {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    private double measureLag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid(2) ? 0 : UNAVAILABLE;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    return UNAVAILABLE; // replica 설정 안 됨
+                }
+                long lag = rs.getLong(lagColumn(rs));
+                return rs.wasNull() ? UNAVAILABLE : lag; // NULL = 복제 스레드 중지
+            }
+        } catch (Exception e) {
+            log.warn("Replica lag check failed for {}: {}", name, e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    private String lagColumn(ResultSet rs) {
+        try {
+            rs.findColumn("Seconds_Behind_Source");
+            return "Seconds_Behind_Source";
+        } catch (Exception e) {
+            return "Seconds_Behind_Master"; // MySQL 8.0.22 이전
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.jiucom.api.global.etag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET 핸들러에 붙이면 ConditionalGetInterceptor 가 리소스 버전으로 ETag 를 붙이고,
+ * If-None-Match 가 일치하면 서비스 호출 없이 304 로 응답한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    EtagResource value();
+
+    /**
+     * 리소스 id 를 담은 path variable 이름
+     */
+    String idVariable();
+}
@@ -0,0 +1,90 @@
+package com.jiucom.api.global.etag;
+
+import com.jiucom.api.global.util.RedisUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 응답 본문을 만들거나 직렬화하지 않고, Redis 의 리소스 버전(캐시 evict 시 초기화)으로 ETag 를 계산한다.
+ */
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        Long id = resolveId(request, conditionalGet.idVariable());
+        if (id == null) {
+            return true;
+        }
+        EtagResource resource = conditionalGet.value();
+        Long version = redisUtil.getResourceVersion(resource, id);
+        if (version == null) {
+            return true; // Redis 장애 시 일반 응답
+        }
+
+        String etag = "W/\"" + resource.getKey() + "-" + id + "-" + Long.toHexString(version) + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // 저장은 허용하되 매번 재검증 (Spring Security 기본값 no-store 대신)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            eventPublisher.publishEvent(new ResourceNotModifiedEvent(resource, id));
+            return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long resolveId(HttpServletRequest request, String idVariable) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(idVariable) == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(variables.get(idVariable));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // If-None-Match 는 weak comparison (W/ 접두사 무시), 목록/와일드카드 허용
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,23 @@
+package com.jiucom.api.global.etag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * ETag 버전을 관리하는 리소스. 버전 TTL 은 해당 응답 캐시 TTL 과 같게 둔다
+ * (캐시 evict 를 거치지 않는 변경도 캐시와 같은 시간 안에 반영).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EtagResource {
+
+    PART_DETAIL("part", Duration.ofMinutes(30)),
+    POST_DETAIL("post", Duration.ofMinutes(10)),
+    PRICE_COMPARISON("price", Duration.ofMinutes(30)),
+    COMMENT_LIST("comments", Duration.ofMinutes(5));
+
+    private final String key;
+    private final Duration ttl;
+}
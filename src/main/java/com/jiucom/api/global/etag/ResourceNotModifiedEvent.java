@@ -0,0 +1,15 @@
+package com.jiucom.api.global.etag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 304 로 응답해 핸들러가 실행되지 않은 요청 (조회수 집계 등 부수 효과용).
+ */
+@Getter
+@RequiredArgsConstructor
+public class ResourceNotModifiedEvent {
+
+    private final EtagResource resource;
+    private final Long id;
+}
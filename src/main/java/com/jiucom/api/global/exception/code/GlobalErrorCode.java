@@ -37,6 +37,7 @@ public enum GlobalErrorCode {
 
     // Build
     BUILD_NOT_FOUND(HttpStatus.NOT_FOUND, "JIUCOM-B001", "견적을 찾을 수 없습니다."),
+    BUILD_NOT_OWNER(HttpStatus.FORBIDDEN, "JIUCOM-B002", "견적 작성자만 수정/삭제할 수 있습니다."),
 
     // Price
     PRICE_NOT_FOUND(HttpStatus.NOT_FOUND, "JIUCOM-PR001", "가격 정보를 찾을 수 없습니다."),
@@ -1,46 +1,139 @@
 package com.jiucom.api.global.logging;
 
+import com.jiucom.api.global.actuator.QueryCount;
+import com.jiucom.api.global.actuator.QueryCountInspector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 10)
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private static final String ACCESS_FORMAT = "[{}] {} {} - {}ms, {} queries";
+    private static final String ACCESS_FORMAT_WITH_QUERY = "[{}] {} {}?{} - {}ms, {} queries";
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    private final double successSampleRate;
+    private final long slowThresholdMs;
+
+    public RequestLoggingFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${metrics.query-count.n-plus-one-threshold:5}") int nPlusOneThreshold,
+                                @Value("${logging.access.success-sample-rate:1.0}") double successSampleRate,
+                                @Value("${logging.access.slow-threshold-ms:1000}") long slowThresholdMs) {
+        // @WebMvcTest 슬라이스에는 MeterRegistry 가 없을 수 있음
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.successSampleRate = successSampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        long startTime = System.currentTimeMillis();
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String queryString = request.getQueryString();
+        long startTime = System.nanoTime();
+        QueryCountInspector.begin();
 
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = (System.nanoTime() - startTime) / 1_000_000;
             int status = response.getStatus();
-            String fullUri = queryString != null ? uri + "?" + queryString : uri;
-
-            if (status >= 500) {
-                log.error("[{}] {} {} - {}ms", method, status, fullUri, duration);
-            } else if (status >= 400) {
-                log.warn("[{}] {} {} - {}ms", method, status, fullUri, duration);
-            } else {
-                log.info("[{}] {} {} - {}ms", method, status, fullUri, duration);
+            String method = request.getMethod();
+            QueryCount queries = QueryCountInspector.end();
+            String uriPattern = uriPattern(request);
+            recordQueryCount(uriPattern, method, queries);
+            detectNPlusOne(uriPattern, method, queries);
+
+            Level level = status >= 500 ? Level.ERROR : status >= 400 ? Level.WARN : Level.INFO;
+            if (log.isEnabledForLevel(level) && (level != Level.INFO || shouldLogSuccess(duration))) {
+                writeAccessLog(level, method, status, request, duration, queries.getTotal());
             }
         }
     }
 
+    // 성공 응답은 샘플링 - 느린 요청과 4xx/5xx 는 항상 남긴다
+    private boolean shouldLogSuccess(long duration) {
+        return successSampleRate >= 1.0
+                || duration >= slowThresholdMs
+                || (successSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < successSampleRate);
+    }
+
+    // 문자열 조립 없이 파라미터로만 넘긴다 - 레벨/샘플링에서 걸러지면 인자 배열도 만들지 않는다
+    private void writeAccessLog(Level level, String method, int status, HttpServletRequest request,
+                                long duration, int queries) {
+        String queryString = request.getQueryString();
+        if (queryString == null) {
+            write(level, ACCESS_FORMAT, method, status, request.getRequestURI(), duration, queries);
+        } else {
+            write(level, ACCESS_FORMAT_WITH_QUERY, method, status, request.getRequestURI(), queryString, duration, queries);
+        }
+    }
+
+    private void write(Level level, String format, Object... args) {
+        switch (level) {
+            case ERROR -> log.error(format, args);
+            case WARN -> log.warn(format, args);
+            default -> log.info(format, args);
+        }
+    }
+
+    // uri 태그는 경로 패턴(/parts/{partId})으로 - 실제 경로를 쓰면 태그 카디널리티가 폭발한다
+    private String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private void recordQueryCount(String uriPattern, String method, QueryCount queries) {
+        DistributionSummary.builder("jiucom.http.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("method", method)
+                .tag("uri", uriPattern)
+                .serviceLevelObjectives(1, 3, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(queries.getTotal());
+    }
+
+    // 같은 SELECT 가 한 요청에서 임계값 이상 반복 = 행 단위 지연 로딩(N+1) 의심
+    private void detectNPlusOne(String uriPattern, String method, QueryCount queries) {
+        int repeats = queries.getMaxRepeatedSelect();
+        if (repeats < nPlusOneThreshold) {
+            return;
+        }
+        Counter.builder("jiucom.http.sql.n_plus_one")
+                .description("Requests that repeated the same SELECT at least the N+1 threshold")
+                .tag("method", method)
+                .tag("uri", uriPattern)
+                .register(meterRegistry)
+                .increment();
+
+        String sql = queries.getMostRepeatedSelect();
+        if (sql.length() > MAX_LOGGED_SQL_LENGTH) {
+            sql = sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+        }
+        log.warn("Possible N+1 on [{}] {} - same SELECT executed {} times: {}", method, uriPattern, repeats, sql);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String uri = request.getRequestURI();
@@ -1,44 +1,64 @@
 package com.jiucom.api.global.naver;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPInputStream;
 
 @Slf4j
 @Component
 public class NaverShoppingClient {
 
-    private static final String SHOPPING_API_URL = "https://openapi.naver.com/v1/search/shop.json";
+    private static final String SHOPPING_API_PATH = "/v1/search/shop.json";
 
-    private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
     private final NaverShoppingConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ObjectReader responseReader;
 
     public NaverShoppingClient(
-            @Qualifier("naverShoppingRestTemplate") RestTemplate restTemplate,
-            NaverShoppingConfig config) {
-        this.restTemplate = restTemplate;
+            @Qualifier("naverShoppingHttpClient") HttpClient httpClient,
+            NaverShoppingConfig config,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
         this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.responseReader = objectMapper.readerFor(NaverShoppingResponse.class);
     }
 
     public NaverShoppingResponse search(String query, int display, int start, String sort) {
+        return searchAsync(query, display, start, sort).join();
+    }
+
+    /**
+     * 실패(미설정, HTTP 오류, 타임아웃, 파싱 오류)는 로그를 남기고 null 로 완료된다 - search() 와 같은 계약.
+     */
+    public CompletableFuture<NaverShoppingResponse> searchAsync(String query, int display, int start, String sort) {
         if (!config.isConfigured()) {
             log.warn("Naver Shopping API is not configured. Set NAVER_SHOPPING_CLIENT_ID and NAVER_SHOPPING_CLIENT_SECRET.");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Naver-Client-Id", config.getClientId());
-        headers.set("X-Naver-Client-Secret", config.getClientSecret());
-
-        URI uri = UriComponentsBuilder.fromHttpUrl(SHOPPING_API_URL)
+        URI uri = UriComponentsBuilder.fromUriString(config.getBaseUrl() + SHOPPING_API_PATH)
                 .queryParam("query", query)
                 .queryParam("display", display)
                 .queryParam("start", start)
@@ -47,17 +67,54 @@ public class NaverShoppingClient {
                 .build()
                 .toUri();
 
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(config.getRequestTimeout())
+                .header("X-Naver-Client-Id", config.getClientId())
+                .header("X-Naver-Client-Secret", config.getClientSecret())
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(this::readResponse)
+                .handle((response, error) -> {
+                    sample.stop(meterRegistry.timer("jiucom.naver.request",
+                            "outcome", error == null ? "success" : "error"));
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        log.error("Naver Shopping API call failed for query '{}': {}", query, cause.getMessage());
+                        return null;
+                    }
+                    return response;
+                });
+    }
+
+    // 응답 본문을 String/JsonNode 로 만들지 않고 스트림에서 바로 DTO 로 바인딩
+    private NaverShoppingResponse readResponse(HttpResponse<InputStream> response) {
         try {
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-            ResponseEntity<NaverShoppingResponse> response = restTemplate.exchange(
-                    uri, HttpMethod.GET, entity, NaverShoppingResponse.class);
-            return response.getBody();
-        } catch (Exception e) {
-            log.error("Naver Shopping API call failed for query '{}': {}", query, e.getMessage());
-            return null;
+            if (response.statusCode() / 100 != 2) {
+                response.body().close();
+                throw new IllegalStateException("HTTP " + response.statusCode());
+            }
+            try (InputStream body = decode(response)) {
+                return responseReader.readValue(body);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
+    // JDK HttpClient 는 Content-Encoding 을 자동으로 풀지 않는다
+    private InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map("gzip"::equalsIgnoreCase)
+                .orElse(false);
+        return gzip ? new GZIPInputStream(response.body()) : response.body();
+    }
+
     // --- Response DTOs ---
 
     @Data
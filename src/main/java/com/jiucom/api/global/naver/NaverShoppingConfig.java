@@ -1,10 +1,11 @@
 package com.jiucom.api.global.naver;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 @Configuration
 public class NaverShoppingConfig {
@@ -15,12 +16,22 @@ public class NaverShoppingConfig {
     @Value("${naver.shopping.client-secret:}")
     private String clientSecret;
 
-    @SuppressWarnings("removal")
-    @Bean("naverShoppingRestTemplate")
-    public RestTemplate naverShoppingRestTemplate(RestTemplateBuilder builder) {
-        return builder
-                .setConnectTimeout(java.time.Duration.ofSeconds(5))
-                .setReadTimeout(java.time.Duration.ofSeconds(10))
+    @Value("${naver.shopping.base-url:https://openapi.naver.com}")
+    private String baseUrl;
+
+    @Value("${naver.shopping.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    /**
+     * JDK HttpClient - 커넥션을 재사용(keep-alive 풀)하고 TLS 에서 ALPN 으로 HTTP/2 를 협상한다.
+     * 서버가 HTTP/2 를 지원하지 않으면 HTTP/1.1 로 내려간다.
+     */
+    @Bean("naverShoppingHttpClient")
+    public HttpClient naverShoppingHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NORMAL)
                 .build();
     }
 
@@ -32,6 +43,14 @@ public class NaverShoppingConfig {
         return clientSecret;
     }
 
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public Duration getRequestTimeout() {
+        return Duration.ofMillis(requestTimeoutMs);
+    }
+
     public boolean isConfigured() {
         return clientId != null && !clientId.isBlank()
                 && clientSecret != null && !clientSecret.isBlank();
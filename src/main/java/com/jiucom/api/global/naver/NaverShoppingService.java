@@ -2,7 +2,9 @@ package com.jiucom.api.global.naver;
 
 import com.jiucom.api.domain.part.entity.Part;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.event.PartPriceChangedEvent;
 import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.part.service.PartSpecService;
 import com.jiucom.api.domain.price.entity.PriceEntry;
 import com.jiucom.api.domain.price.entity.PriceHistory;
 import com.jiucom.api.domain.price.repository.PriceEntryRepository;
@@ -10,13 +12,17 @@ import com.jiucom.api.domain.price.repository.PriceHistoryRepository;
 import com.jiucom.api.domain.seller.entity.Seller;
 import com.jiucom.api.domain.seller.entity.enums.SellerStatus;
 import com.jiucom.api.domain.seller.repository.SellerRepository;
+import com.jiucom.api.global.util.RedisUtil;
+import com.jiucom.api.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -26,9 +32,14 @@ public class NaverShoppingService {
     private final NaverShoppingClient client;
     private final NaverShoppingConfig config;
     private final PartRepository partRepository;
+    private final PartSpecService partSpecService;
     private final SellerRepository sellerRepository;
     private final PriceEntryRepository priceEntryRepository;
     private final PriceHistoryRepository priceHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisUtil redisUtil;
+
+    private static final long KEYWORD_THROTTLE_MS = 150;
 
     // Common blacklist keywords (applied to ALL categories)
     private static final List<String> COMMON_BLACKLIST = List.of(
@@ -125,17 +136,13 @@ public class NaverShoppingService {
             List<String> keywords = entry.getValue();
             int categoryCount = 0;
 
+            Map<String, CompletableFuture<NaverShoppingClient.NaverShoppingResponse>> responses = fetchKeywords(keywords);
             for (String keyword : keywords) {
                 try {
-                    int[] result = importKeyword(keyword, category);
+                    int[] result = importKeyword(keyword, category, responses.get(keyword).join());
                     categoryCount += result[0];
                     totalPriceEntries += result[1];
                     totalSellers += result[2];
-                    // Rate limit: max 10 calls/sec → sleep 150ms between calls
-                    Thread.sleep(150);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
                 } catch (Exception e) {
                     log.error("Failed to import keyword '{}': {}", keyword, e.getMessage());
                 }
@@ -144,7 +151,12 @@ public class NaverShoppingService {
             totalParts += categoryCount;
             categoryResults.put(category.name(), categoryCount);
             log.info("Category {} imported: {} parts", category, categoryCount);
+
+            if (!throttle(keywords.size())) {
+                break;
+            }
         }
+        evictPartCountsAfterCommit();
 
         return NaverImportResult.success(totalParts, totalPriceEntries, totalSellers, categoryResults);
     }
@@ -164,31 +176,52 @@ public class NaverShoppingService {
         int totalPriceEntries = 0;
         int totalSellers = 0;
 
+        Map<String, CompletableFuture<NaverShoppingClient.NaverShoppingResponse>> responses = fetchKeywords(keywords);
         for (String keyword : keywords) {
             try {
-                int[] result = importKeyword(keyword, category);
+                int[] result = importKeyword(keyword, category, responses.get(keyword).join());
                 totalParts += result[0];
                 totalPriceEntries += result[1];
                 totalSellers += result[2];
-                Thread.sleep(150);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
             } catch (Exception e) {
                 log.error("Failed to import keyword '{}': {}", keyword, e.getMessage());
             }
         }
+        evictPartCountsAfterCommit();
 
         return NaverImportResult.success(totalParts, totalPriceEntries, totalSellers,
                 Map.of(category.name(), totalParts));
     }
 
+    /**
+     * 카테고리 키워드(최대 4개)를 동시에 요청한다 - 응답 대기가 키워드 수만큼 쌓이지 않도록.
+     * 저장은 호출 스레드(트랜잭션)에서 키워드 순서대로 한다.
+     */
+    private Map<String, CompletableFuture<NaverShoppingClient.NaverShoppingResponse>> fetchKeywords(List<String> keywords) {
+        Map<String, CompletableFuture<NaverShoppingClient.NaverShoppingResponse>> responses = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            responses.put(keyword, client.searchAsync(keyword, 20, 1, "sim"));
+        }
+        return responses;
+    }
+
+    // Rate limit: max 10 calls/sec → 요청한 키워드 수 x 150ms 대기 후 다음 카테고리
+    private boolean throttle(int requests) {
+        try {
+            Thread.sleep(KEYWORD_THROTTLE_MS * requests);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * Import products from a single keyword search.
      * @return [partsCreated, priceEntriesCreated, sellersCreated]
      */
-    private int[] importKeyword(String keyword, PartCategory category) {
-        NaverShoppingClient.NaverShoppingResponse response = client.search(keyword, 20, 1, "sim");
+    private int[] importKeyword(String keyword, PartCategory category,
+                                NaverShoppingClient.NaverShoppingResponse response) {
         if (response == null) {
             log.warn("Naver API returned null for keyword '{}'", keyword);
             return new int[]{0, 0, 0};
@@ -247,6 +280,7 @@ public class NaverShoppingService {
                         .lowestPrice(lowPrice)
                         .highestPrice(item.getHpriceInt() != null ? item.getHpriceInt() : lowPrice)
                         .build());
+                partSpecService.reindex(part);
                 partsCreated++;
             } else {
                 // Update price range if better
@@ -326,6 +360,13 @@ public class NaverShoppingService {
                 (newHigh != null ? Math.max(currentHigh, newHigh) : currentHigh);
 
         part.updatePriceRange(updatedLow, updatedHigh);
+        eventPublisher.publishEvent(new PartPriceChangedEvent(part.getId(), currentLow, updatedLow));
+    }
+
+    // 새 부품 / updatePriceRange 의 가격 범위 변경이 검색 COUNT 를 바꾼다.
+    // 부품마다 패턴 삭제(SCAN)를 걸지 않고 가져오기 한 번에 한 번, 커밋 후에 무효화
+    private void evictPartCountsAfterCommit() {
+        TransactionUtil.afterCommit(redisUtil::evictPartCounts);
     }
 
     private String extractDomain(String url) {
@@ -0,0 +1,50 @@
+package com.jiucom.api.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiucom.api.global.exception.code.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Stream 을 ApiResponse 와 같은 모양({"success", "message", "data": [...], "timestamp"})으로 바로 써 내려간다.
+ * 전체 목록을 메모리에 올리지 않으므로 결과 크기와 무관하게 힙 사용량이 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonStreamWriter {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectMapper objectMapper;
+
+    public <T> int writeList(OutputStream out, Stream<T> items) throws IOException {
+        int count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", SuccessCode.OK.getMessage());
+            generator.writeArrayFieldStart("data");
+
+            Iterator<T> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeObjectField("timestamp", LocalDateTime.now());
+            generator.writeEndObject();
+        }
+        return count;
+    }
+}
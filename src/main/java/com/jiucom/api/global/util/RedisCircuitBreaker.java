@@ -0,0 +1,153 @@
+package com.jiucom.api.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출 서킷 브레이커.
+ * CLOSED: 연속 실패가 failure-threshold 에 도달하면 OPEN.
+ * OPEN: open-duration 동안 Redis 를 호출하지 않고 즉시 RedisCircuitOpenException (호출 측 try/catch → DB 경로).
+ * HALF_OPEN: open-duration 이후 한 요청만 probe 로 통과 - 성공하면 CLOSED, 실패하면 다시 OPEN.
+ * 연결/타임아웃 같은 DataAccessException 만 실패로 센다 (직렬화 오류 등은 Redis 장애가 아님).
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
+    private final Counter rejected;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RedisCircuitBreaker(MeterRegistry meterRegistry,
+                               @Value("${redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${redis.circuit-breaker.open-duration:10s}") Duration openDuration) {
+        this(meterRegistry, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    RedisCircuitBreaker(MeterRegistry meterRegistry, int failureThreshold, Duration openDuration,
+                        LongSupplier nanoClock) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+
+        // 0 = closed, 1 = open, 2 = half-open
+        Gauge.builder("jiucom.redis.circuit.state", state, s -> s.get().ordinal())
+                .description("Redis circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("jiucom.redis.circuit.rejected")
+                .description("Redis calls short-circuited while the breaker was open")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        boolean probe = acquirePermission();
+        try {
+            T result = action.get();
+            onSuccess(probe);
+            return result;
+        } catch (DataAccessException e) {
+            onFailure(probe);
+            throw e;
+        } catch (RuntimeException e) {
+            // Redis 는 응답했음 - 장애로 보지 않는다
+            onSuccess(probe);
+            throw e;
+        } finally {
+            // Error(OOM 등) 로 빠져나가도 다음 probe 가 가능하도록 항상 해제
+            if (probe) {
+                probeInFlight.set(false);
+            }
+        }
+    }
+
+    public void run(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean acquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAt.get() >= openDurationNanos) {
+            transition(State.OPEN, State.HALF_OPEN);
+        }
+        if (state.get() == State.HALF_OPEN && probeInFlight.compareAndSet(false, true)) {
+            return true;
+        }
+        rejected.increment();
+        throw new RedisCircuitOpenException();
+    }
+
+    private void onSuccess(boolean probe) {
+        consecutiveFailures.set(0);
+        if (probe) {
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    private void onFailure(boolean probe) {
+        if (probe) {
+            openedAt.set(nanoClock.getAsLong());
+            transition(State.HALF_OPEN, State.OPEN);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(nanoClock.getAsLong());
+            transition(State.CLOSED, State.OPEN);
+        }
+    }
+
+    private void transition(State from, State to) {
+        if (state.compareAndSet(from, to)) {
+            consecutiveFailures.set(0);
+            meterRegistry.counter("jiucom.redis.circuit.transitions", "to", to.name().toLowerCase()).increment();
+            if (to == State.OPEN) {
+                log.warn("Redis circuit breaker {} -> OPEN: skipping Redis for {}ms",
+                        from, Duration.ofNanos(openDurationNanos).toMillis());
+            } else {
+                log.info("Redis circuit breaker {} -> {}", from, to);
+            }
+        }
+    }
+
+    public static class RedisCircuitOpenException extends RuntimeException {
+
+        public RedisCircuitOpenException() {
+            super("Redis circuit breaker is open", null, false, false);
+        }
+    }
+}
@@ -2,16 +2,36 @@ package com.jiucom.api.global.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jiucom.api.domain.comment.dto.response.CommentListResponse;
+import com.jiucom.api.domain.like.entity.enums.LikeTargetType;
 import com.jiucom.api.domain.part.dto.response.PartDetailResponse;
 import com.jiucom.api.domain.post.dto.response.CachedPostListResponse;
 import com.jiucom.api.domain.post.dto.response.PostDetailResponse;
+import com.jiucom.api.domain.post.entity.enums.BoardType;
+import com.jiucom.api.global.etag.EtagResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -21,6 +41,8 @@ public class RedisUtil {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RedisCircuitBreaker circuitBreaker;
 
     private static final String PRICE_CACHE_PREFIX = "price:";
     private static final String REFRESH_TOKEN_PREFIX = "refresh:";
@@ -28,33 +50,172 @@ public class RedisUtil {
     private static final String POST_LIST_PREFIX = "post:list:";
     private static final String PART_DETAIL_PREFIX = "part:detail:";
     private static final String PART_CATEGORIES_KEY = "part:categories";
+    private static final String PART_COUNT_PREFIX = "part:count:";
     private static final String COMMENT_LIST_PREFIX = "comment:list:";
-
+    private static final String NOTIFICATION_UNREAD_PREFIX = "notification:unread:";
+    private static final String RESOURCE_VERSION_PREFIX = "etag:";
+    private static final String LIKE_COUNT_PREFIX = "like:count:";
+    private static final Duration LIKE_COUNT_TTL = Duration.ofMinutes(10);
+    private static final String POST_HOT_PREFIX = "post:hot:";                      // sorted set per board + ALL
+    private static final String POST_HOT_ENGAGEMENT_KEY = "post:hot:engagement";    // hash postId -> 가중 참여도
+    private static final String PART_COOC_PREFIX = "part:cooc:";                    // sorted set per part: 부품 id -> 동시 관심 사용자 수
+    private static final Duration PART_COOC_TTL = Duration.ofDays(7);
+    private static final int PART_COOC_REPLACE_CHUNK = 500;
+    private static final String PRIMARY_STICKY_PREFIX = "db:sticky:";             // 쓰기 직후 primary 고정 (모든 파드 공유)
+
+    // 참여도 증감과 점수 갱신을 한 번에 (파드 간 동시 갱신에도 점수가 마지막 참여도와 일치)
+    // KEYS: engagement hash, board set, ALL set / ARGV: postId, weight, age offset
+    private static final RedisScript<String> HOT_POST_SCRIPT = new DefaultRedisScript<>("""
+            local e = tonumber(redis.call('HINCRBYFLOAT', KEYS[1], ARGV[1], ARGV[2]))
+            if e < 0 then
+                e = 0
+                redis.call('HSET', KEYS[1], ARGV[1], 0)
+            end
+            local score = math.log(1 + e) / math.log(2) + tonumber(ARGV[3])
+            redis.call('ZADD', KEYS[2], score, ARGV[1])
+            redis.call('ZADD', KEYS[3], score, ARGV[1])
+            return tostring(score)
+            """, String.class);
+
+    // 키가 있을 때만 증감 (확인과 증감 사이에 만료돼 TTL 없는 키가 delta 값으로 생기지 않도록 한 번에), 음수면 0
+    // KEYS: counter / ARGV: delta
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if v < 0 then
+                v = 0
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+            end
+            return v
+            """, Long.class);
+
+    private static final int SCAN_COUNT = 500;
+
+    // 모든 Redis 호출은 circuitBreaker 경유 - 장애 중에는 타임아웃을 기다리지 않고 즉시 예외 (호출 측 catch → DB 경로)
     public void set(String key, Object value, long timeout, TimeUnit unit) {
-        redisTemplate.opsForValue().set(key, value, timeout, unit);
+        circuitBreaker.run(() -> redisTemplate.opsForValue().set(key, value, timeout, unit));
     }
 
     public Object get(String key) {
-        return redisTemplate.opsForValue().get(key);
+        return circuitBreaker.execute(() -> redisTemplate.opsForValue().get(key));
+    }
+
+    // 캐시 조회 계측: jiucom.cache.gets{namespace, result=hit|miss|error|rejected} (count = 요청 수, 합계 = 지연)
+    private Object getCached(String namespace, String key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "miss";
+        try {
+            Object value = get(key);
+            if (value != null) result = "hit";
+            return value;
+        } catch (RuntimeException e) {
+            result = e instanceof RedisCircuitBreaker.RedisCircuitOpenException ? "rejected" : "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("jiucom.cache.gets", "namespace", namespace, "result", result));
+        }
+    }
+
+    // 서킷 OPEN 중에는 요청마다 경고를 남기지 않는다 (상태 전환은 RedisCircuitBreaker 가 기록)
+    private void logFailure(Exception e, String format, Object... args) {
+        if (e instanceof RedisCircuitBreaker.RedisCircuitOpenException) {
+            log.debug(format, args);
+        } else {
+            log.warn(format, args);
+        }
     }
 
     public boolean delete(String key) {
-        return Boolean.TRUE.equals(redisTemplate.delete(key));
+        return Boolean.TRUE.equals(circuitBreaker.execute(() -> redisTemplate.delete(key)));
     }
 
     public boolean hasKey(String key) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return Boolean.TRUE.equals(circuitBreaker.execute(() -> redisTemplate.hasKey(key)));
     }
 
     public void deleteByPattern(String pattern) {
         try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
+            Set<String> keys = scanKeys(pattern);
+            if (!keys.isEmpty()) {
+                circuitBreaker.execute(() -> redisTemplate.delete(keys));
             }
         } catch (Exception e) {
-            log.warn("Redis deleteByPattern 실패 (pattern: {}): {}", pattern, e.getMessage());
+            logFailure(e, "Redis deleteByPattern 실패 (pattern: {}): {}", pattern, e.getMessage());
+        }
+    }
+
+    // KEYS 대신 SCAN - 전체 키 공간을 한 번에 훑으며 Redis 를 막지 않도록 커서 단위로 나눠 조회
+    private Set<String> scanKeys(String pattern) {
+        return circuitBreaker.execute(() -> {
+            Set<String> keys = new HashSet<>();
+            try (Cursor<String> cursor = redisTemplate.scan(
+                    ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build())) {
+                cursor.forEachRemaining(keys::add);
+            }
+            return keys;
+        });
+    }
+
+    // ===== Batch (목록 페이지 hydration: N개 키 = 네트워크 왕복 1회) =====
+
+    /**
+     * MGET - keys 순서대로 값을 돌려준다 (없는 키는 null).
+     */
+    public List<Object> multiGet(String namespace, List<String> keys) {
+        if (keys.isEmpty()) return List.of();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "ok";
+        try {
+            List<Object> values = circuitBreaker.execute(() -> redisTemplate.opsForValue().multiGet(keys));
+            return values != null ? values : Collections.nCopies(keys.size(), null);
+        } catch (RuntimeException e) {
+            result = e instanceof RedisCircuitBreaker.RedisCircuitOpenException ? "rejected" : "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("jiucom.cache.multi_gets", "namespace", namespace, "result", result));
+        }
+    }
+
+    /**
+     * 키마다 SET EX 를 파이프라인으로 전송 (MSET 은 TTL 을 지정할 수 없다).
+     */
+    public void multiSet(Map<String, ?> values, Duration ttl) {
+        if (values.isEmpty()) return;
+        circuitBreaker.run(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) -> ops.opsForValue().set(key, value, ttl));
+                return null;
+            }
+        }));
+    }
+
+    /**
+     * DEL key1 key2 ... 한 번으로 삭제.
+     */
+    public void multiDelete(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        circuitBreaker.execute(() -> redisTemplate.delete(keys));
+    }
+
+    // id 목록 → 캐시된 값 (없는 id 는 결과에 포함하지 않음 = 미스)
+    private <T> Map<Long, T> multiGetByIds(String namespace, String prefix, Collection<Long> ids,
+                                           Function<Object, T> converter) {
+        Map<Long, T> result = new HashMap<>();
+        if (ids.isEmpty()) return result;
+        List<Long> idList = new ArrayList<>(ids);
+        List<Object> values = multiGet(namespace, idList.stream().map(id -> prefix + id).toList());
+        for (int i = 0; i < idList.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                result.put(idList.get(i), converter.apply(value));
+            }
         }
+        return result;
     }
 
     // Refresh Token
@@ -77,11 +238,31 @@ public class RedisUtil {
     }
 
     public Object getCachedPriceData(Long partId) {
-        return get(PRICE_CACHE_PREFIX + partId);
+        return getCached("price", PRICE_CACHE_PREFIX + partId);
     }
 
     public void evictPriceCache(Long partId) {
-        delete(PRICE_CACHE_PREFIX + partId);
+        try {
+            delete(PRICE_CACHE_PREFIX + partId);
+            evictResourceVersion(EtagResource.PRICE_COMPARISON, partId);
+        } catch (Exception e) {
+            logFailure(e, "Redis evictPriceCache 실패 (partId: {}): {}", partId, e.getMessage());
+        }
+    }
+
+    /**
+     * 최저가 변동 시 부품 관련 캐시(가격 비교, 상세, 각 ETag 버전)를 DEL 한 번으로 무효화.
+     */
+    public void evictPartPriceCaches(Long partId) {
+        try {
+            multiDelete(List.of(
+                    PRICE_CACHE_PREFIX + partId,
+                    PART_DETAIL_PREFIX + partId,
+                    resourceVersionKey(EtagResource.PRICE_COMPARISON, partId),
+                    resourceVersionKey(EtagResource.PART_DETAIL, partId)));
+        } catch (Exception e) {
+            logFailure(e, "Redis evictPartPriceCaches 실패 (partId: {}): {}", partId, e.getMessage());
+        }
     }
 
     // ===== Post Cache =====
@@ -90,17 +271,17 @@ public class RedisUtil {
         try {
             set(POST_DETAIL_PREFIX + postId, data, 10, TimeUnit.MINUTES);
         } catch (Exception e) {
-            log.warn("Redis cachePostDetail 실패 (postId: {}): {}", postId, e.getMessage());
+            logFailure(e, "Redis cachePostDetail 실패 (postId: {}): {}", postId, e.getMessage());
         }
     }
 
     public PostDetailResponse getCachedPostDetail(Long postId) {
         try {
-            Object value = get(POST_DETAIL_PREFIX + postId);
+            Object value = getCached("post.detail", POST_DETAIL_PREFIX + postId);
             if (value == null) return null;
             return objectMapper.convertValue(value, PostDetailResponse.class);
         } catch (Exception e) {
-            log.warn("Redis getCachedPostDetail 실패 (postId: {}): {}", postId, e.getMessage());
+            logFailure(e, "Redis getCachedPostDetail 실패 (postId: {}): {}", postId, e.getMessage());
             return null;
         }
     }
@@ -108,8 +289,9 @@ public class RedisUtil {
     public void evictPostDetail(Long postId) {
         try {
             delete(POST_DETAIL_PREFIX + postId);
+            evictResourceVersion(EtagResource.POST_DETAIL, postId);
         } catch (Exception e) {
-            log.warn("Redis evictPostDetail 실패 (postId: {}): {}", postId, e.getMessage());
+            logFailure(e, "Redis evictPostDetail 실패 (postId: {}): {}", postId, e.getMessage());
         }
     }
 
@@ -118,18 +300,18 @@ public class RedisUtil {
             String key = POST_LIST_PREFIX + (boardType != null ? boardType : "ALL") + ":" + page + ":" + size;
             set(key, data, 5, TimeUnit.MINUTES);
         } catch (Exception e) {
-            log.warn("Redis cachePostList 실패: {}", e.getMessage());
+            logFailure(e, "Redis cachePostList 실패: {}", e.getMessage());
         }
     }
 
     public CachedPostListResponse getCachedPostList(String boardType, int page, int size) {
         try {
             String key = POST_LIST_PREFIX + (boardType != null ? boardType : "ALL") + ":" + page + ":" + size;
-            Object value = get(key);
+            Object value = getCached("post.list", key);
             if (value == null) return null;
             return objectMapper.convertValue(value, CachedPostListResponse.class);
         } catch (Exception e) {
-            log.warn("Redis getCachedPostList 실패: {}", e.getMessage());
+            logFailure(e, "Redis getCachedPostList 실패: {}", e.getMessage());
             return null;
         }
     }
@@ -138,7 +320,7 @@ public class RedisUtil {
         try {
             deleteByPattern(POST_LIST_PREFIX + "*");
         } catch (Exception e) {
-            log.warn("Redis evictAllPostLists 실패: {}", e.getMessage());
+            logFailure(e, "Redis evictAllPostLists 실패: {}", e.getMessage());
         }
     }
 
@@ -148,17 +330,17 @@ public class RedisUtil {
         try {
             set(PART_DETAIL_PREFIX + partId, data, 30, TimeUnit.MINUTES);
         } catch (Exception e) {
-            log.warn("Redis cachePartDetail 실패 (partId: {}): {}", partId, e.getMessage());
+            logFailure(e, "Redis cachePartDetail 실패 (partId: {}): {}", partId, e.getMessage());
         }
     }
 
     public PartDetailResponse getCachedPartDetail(Long partId) {
         try {
-            Object value = get(PART_DETAIL_PREFIX + partId);
+            Object value = getCached("part.detail", PART_DETAIL_PREFIX + partId);
             if (value == null) return null;
             return objectMapper.convertValue(value, PartDetailResponse.class);
         } catch (Exception e) {
-            log.warn("Redis getCachedPartDetail 실패 (partId: {}): {}", partId, e.getMessage());
+            logFailure(e, "Redis getCachedPartDetail 실패 (partId: {}): {}", partId, e.getMessage());
             return null;
         }
     }
@@ -166,19 +348,20 @@ public class RedisUtil {
     public void evictPartDetail(Long partId) {
         try {
             delete(PART_DETAIL_PREFIX + partId);
+            evictResourceVersion(EtagResource.PART_DETAIL, partId);
         } catch (Exception e) {
-            log.warn("Redis evictPartDetail 실패 (partId: {}): {}", partId, e.getMessage());
+            logFailure(e, "Redis evictPartDetail 실패 (partId: {}): {}", partId, e.getMessage());
         }
     }
 
     @SuppressWarnings("unchecked")
     public List<String> getCachedPartCategories() {
         try {
-            Object value = get(PART_CATEGORIES_KEY);
+            Object value = getCached("part.categories", PART_CATEGORIES_KEY);
             if (value == null) return null;
             return objectMapper.convertValue(value, List.class);
         } catch (Exception e) {
-            log.warn("Redis getCachedPartCategories 실패: {}", e.getMessage());
+            logFailure(e, "Redis getCachedPartCategories 실패: {}", e.getMessage());
             return null;
         }
     }
@@ -187,7 +370,34 @@ public class RedisUtil {
         try {
             set(PART_CATEGORIES_KEY, categories, 24, TimeUnit.HOURS);
         } catch (Exception e) {
-            log.warn("Redis cachePartCategories 실패: {}", e.getMessage());
+            logFailure(e, "Redis cachePartCategories 실패: {}", e.getMessage());
+        }
+    }
+
+    public void cachePartCount(String filterKey, long count) {
+        try {
+            set(PART_COUNT_PREFIX + filterKey, count, 10, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            logFailure(e, "Redis cachePartCount 실패: {}", e.getMessage());
+        }
+    }
+
+    public Long getCachedPartCount(String filterKey) {
+        try {
+            Object value = getCached("part.count", PART_COUNT_PREFIX + filterKey);
+            if (value == null) return null;
+            return ((Number) value).longValue();
+        } catch (Exception e) {
+            logFailure(e, "Redis getCachedPartCount 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void evictPartCounts() {
+        try {
+            deleteByPattern(PART_COUNT_PREFIX + "*");
+        } catch (Exception e) {
+            logFailure(e, "Redis evictPartCounts 실패: {}", e.getMessage());
         }
     }
 
@@ -198,18 +408,18 @@ public class RedisUtil {
             String key = COMMENT_LIST_PREFIX + postId + ":" + page + ":" + size;
             set(key, data, 5, TimeUnit.MINUTES);
         } catch (Exception e) {
-            log.warn("Redis cacheCommentList 실패: {}", e.getMessage());
+            logFailure(e, "Redis cacheCommentList 실패: {}", e.getMessage());
         }
     }
 
     public CommentListResponse getCachedCommentList(Long postId, int page, int size) {
         try {
             String key = COMMENT_LIST_PREFIX + postId + ":" + page + ":" + size;
-            Object value = get(key);
+            Object value = getCached("comment.list", key);
             if (value == null) return null;
             return objectMapper.convertValue(value, CommentListResponse.class);
         } catch (Exception e) {
-            log.warn("Redis getCachedCommentList 실패: {}", e.getMessage());
+            logFailure(e, "Redis getCachedCommentList 실패: {}", e.getMessage());
             return null;
         }
     }
@@ -217,8 +427,356 @@ public class RedisUtil {
     public void evictCommentListsForPost(Long postId) {
         try {
             deleteByPattern(COMMENT_LIST_PREFIX + postId + ":*");
+            evictResourceVersion(EtagResource.COMMENT_LIST, postId);
+        } catch (Exception e) {
+            logFailure(e, "Redis evictCommentListsForPost 실패 (postId: {}): {}", postId, e.getMessage());
+        }
+    }
+
+    // ===== Notification Unread Counter =====
+
+    public Long getUnreadNotificationCount(Long userId) {
+        try {
+            Object value = getCached("notification.unread", NOTIFICATION_UNREAD_PREFIX + userId);
+            if (value == null) return null;
+            return ((Number) value).longValue();
+        } catch (Exception e) {
+            logFailure(e, "Redis getUnreadNotificationCount 실패 (userId: {}): {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void setUnreadNotificationCount(Long userId, long count) {
+        try {
+            set(NOTIFICATION_UNREAD_PREFIX + userId, count, 1, TimeUnit.DAYS);
+        } catch (Exception e) {
+            logFailure(e, "Redis setUnreadNotificationCount 실패 (userId: {}): {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 있는 카운터만 담아 돌려준다. 조회 실패면 null (키 없음과 구분 - 호출 측에서 건너뛴다).
+     */
+    public Map<Long, Long> getUnreadNotificationCounts(Collection<Long> userIds) {
+        try {
+            return multiGetByIds("notification.unread", NOTIFICATION_UNREAD_PREFIX, userIds,
+                    value -> ((Number) value).longValue());
+        } catch (Exception e) {
+            logFailure(e, "Redis getUnreadNotificationCounts 실패 ({} users): {}", userIds.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    public void setUnreadNotificationCounts(Map<Long, Long> counts) {
+        try {
+            Map<String, Object> values = new HashMap<>();
+            counts.forEach((userId, count) -> values.put(NOTIFICATION_UNREAD_PREFIX + userId, count));
+            multiSet(values, Duration.ofDays(1));
+        } catch (Exception e) {
+            logFailure(e, "Redis setUnreadNotificationCounts 실패 ({} users): {}", counts.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터가 있을 때만 증감한다 (Lua 로 원자적, 기존 TTL 유지). 없으면 null (호출 측에서 DB 로 다시 적재).
+     */
+    public Long incrementUnreadNotificationCount(Long userId, long delta) {
+        String key = NOTIFICATION_UNREAD_PREFIX + userId;
+        try {
+            return circuitBreaker.execute(() -> redisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT,
+                    StringRedisSerializer.UTF_8, new GenericToStringSerializer<>(Long.class),
+                    List.of(key), String.valueOf(delta)));
+        } catch (Exception e) {
+            logFailure(e, "Redis incrementUnreadNotificationCount 실패 (userId: {}): {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public Set<Long> getUnreadNotificationCountUserIds() {
+        Set<Long> userIds = new HashSet<>();
+        try {
+            for (String key : scanKeys(NOTIFICATION_UNREAD_PREFIX + "*")) {
+                userIds.add(Long.parseLong(key.substring(NOTIFICATION_UNREAD_PREFIX.length())));
+            }
+        } catch (Exception e) {
+            logFailure(e, "Redis getUnreadNotificationCountUserIds 실패: {}", e.getMessage());
+        }
+        return userIds;
+    }
+
+    // ===== Like Count (목록 페이지 일괄 조회) =====
+
+    public Map<Long, Long> getLikeCounts(LikeTargetType targetType, Collection<Long> targetIds) {
+        try {
+            return multiGetByIds("like.count", likeCountPrefix(targetType), targetIds,
+                    value -> ((Number) value).longValue());
         } catch (Exception e) {
-            log.warn("Redis evictCommentListsForPost 실패 (postId: {}): {}", postId, e.getMessage());
+            logFailure(e, "Redis getLikeCounts 실패 ({}, {} targets): {}", targetType, targetIds.size(), e.getMessage());
+            return Map.of();
         }
     }
+
+    public void cacheLikeCounts(LikeTargetType targetType, Map<Long, Long> counts) {
+        try {
+            Map<String, Object> values = new HashMap<>();
+            counts.forEach((targetId, count) -> values.put(likeCountPrefix(targetType) + targetId, count));
+            multiSet(values, LIKE_COUNT_TTL);
+        } catch (Exception e) {
+            logFailure(e, "Redis cacheLikeCounts 실패 ({}, {} targets): {}", targetType, counts.size(), e.getMessage());
+        }
+    }
+
+    public void evictLikeCount(LikeTargetType targetType, Long targetId) {
+        try {
+            delete(likeCountPrefix(targetType) + targetId);
+        } catch (Exception e) {
+            logFailure(e, "Redis evictLikeCount 실패 ({}:{}): {}", targetType, targetId, e.getMessage());
+        }
+    }
+
+    private String likeCountPrefix(LikeTargetType targetType) {
+        return LIKE_COUNT_PREFIX + targetType.name() + ":";
+    }
+
+    // ===== Hot Post Ranking =====
+    // 멤버/필드는 평문 postId (JSON 직렬화 없이 raw bytes) - Lua 스크립트와 같은 표현
+
+    public void recordHotPostEngagement(BoardType boardType, Long postId, double weight, double ageOffset) {
+        try {
+            circuitBreaker.execute(() -> redisTemplate.execute(HOT_POST_SCRIPT,
+                    StringRedisSerializer.UTF_8, StringRedisSerializer.UTF_8,
+                    List.of(POST_HOT_ENGAGEMENT_KEY, hotPostKey(boardType), hotPostKey(null)),
+                    String.valueOf(postId), String.valueOf(weight), String.valueOf(ageOffset)));
+        } catch (Exception e) {
+            logFailure(e, "Redis recordHotPostEngagement 실패 (postId: {}): {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 점수 내림차순 postId (start..end, 0부터, 양끝 포함). boardType null = 전체. Redis 실패 시 null.
+     */
+    public List<Long> getHotPostIds(BoardType boardType, long start, long end) {
+        byte[] key = raw(hotPostKey(boardType));
+        try {
+            Set<byte[]> members = circuitBreaker.execute(() -> redisTemplate.execute(
+                    (RedisCallback<Set<byte[]>>) connection -> connection.zSetCommands().zRevRange(key, start, end)));
+            return toIds(members);
+        } catch (Exception e) {
+            logFailure(e, "Redis getHotPostIds 실패 ({}): {}", boardType, e.getMessage());
+            return null;
+        }
+    }
+
+    public Long getHotPostCount(BoardType boardType) {
+        byte[] key = raw(hotPostKey(boardType));
+        try {
+            return circuitBreaker.execute(() -> redisTemplate.execute(
+                    (RedisCallback<Long>) connection -> connection.zSetCommands().zCard(key)));
+        } catch (Exception e) {
+            logFailure(e, "Redis getHotPostCount 실패 ({}): {}", boardType, e.getMessage());
+            return null;
+        }
+    }
+
+    public void removeHotPost(BoardType boardType, Long postId) {
+        byte[] member = raw(String.valueOf(postId));
+        try {
+            circuitBreaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zRem(raw(hotPostKey(boardType)), member);
+                connection.zSetCommands().zRem(raw(hotPostKey(null)), member);
+                connection.hashCommands().hDel(raw(POST_HOT_ENGAGEMENT_KEY), member);
+                return null;
+            }));
+        } catch (Exception e) {
+            logFailure(e, "Redis removeHotPost 실패 (postId: {}): {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 랭킹 전체 교체 (DB 카운터 기준 재계산). 임시 키에 적재 후 RENAME - 읽는 쪽은 항상 완성된 집합을 본다.
+     * scores 키 null = 전체 집합.
+     */
+    public void replaceHotPostRanking(Map<BoardType, Map<Long, Double>> scores, Map<Long, Double> engagement) {
+        List<BoardType> keys = new ArrayList<>(Arrays.asList(BoardType.values()));
+        keys.add(null);
+        try {
+            circuitBreaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (BoardType boardType : keys) {
+                    Map<Long, Double> boardScores = scores.getOrDefault(boardType, Map.of());
+                    Set<Tuple> tuples = new HashSet<>();
+                    boardScores.forEach((postId, score) -> tuples.add(Tuple.of(raw(String.valueOf(postId)), score)));
+                    replaceKey(connection, hotPostKey(boardType), tmp -> connection.zSetCommands().zAdd(tmp, tuples),
+                            tuples.isEmpty());
+                }
+                Map<byte[], byte[]> fields = new HashMap<>();
+                engagement.forEach((postId, value) -> fields.put(raw(String.valueOf(postId)), raw(String.valueOf(value))));
+                replaceKey(connection, POST_HOT_ENGAGEMENT_KEY, tmp -> connection.hashCommands().hMSet(tmp, fields),
+                        fields.isEmpty());
+                return null;
+            }));
+        } catch (Exception e) {
+            logFailure(e, "Redis replaceHotPostRanking 실패: {}", e.getMessage());
+        }
+    }
+
+    private static List<Long> toIds(Set<byte[]> members) {
+        List<Long> ids = new ArrayList<>();
+        if (members != null) {
+            for (byte[] member : members) {
+                ids.add(Long.parseLong(new String(member, StandardCharsets.UTF_8)));
+            }
+        }
+        return ids;
+    }
+
+    private void replaceKey(RedisConnection connection, String key, Consumer<byte[]> writer, boolean empty) {
+        byte[] live = raw(key);
+        byte[] tmp = raw(key + ":rebuild");
+        connection.keyCommands().del(tmp);
+        if (empty) {
+            connection.keyCommands().del(live);
+            return;
+        }
+        writer.accept(tmp);
+        connection.keyCommands().rename(tmp, live);
+    }
+
+    private String hotPostKey(BoardType boardType) {
+        return POST_HOT_PREFIX + (boardType != null ? boardType.name() : "ALL");
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ===== Part Co-occurrence (추천) =====
+    // 부품마다 sorted set - 멤버는 함께 관심 가진 부품 id 평문, 점수는 두 부품에 모두 관심 있는 사용자 수
+
+    /**
+     * 동시 관심 사용자 수 상위 부품 id (내림차순, 최대 limit 개). Redis 실패 시 null.
+     */
+    public List<Long> getPartNeighbours(Long partId, int limit) {
+        byte[] key = raw(PART_COOC_PREFIX + partId);
+        try {
+            Set<byte[]> members = circuitBreaker.execute(() -> redisTemplate.execute(
+                    (RedisCallback<Set<byte[]>>) connection -> connection.zSetCommands().zRevRange(key, 0, limit - 1)));
+            return toIds(members);
+        } catch (Exception e) {
+            logFailure(e, "Redis getPartNeighbours 실패 (partId: {}): {}", partId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * partId 와 others 각 부품 쌍의 동시 관심 수를 양방향으로 delta 만큼 갱신. 0 이하가 된 쌍은 제거한다.
+     */
+    public void incrementPartCooccurrence(Long partId, Collection<Long> others, int delta) {
+        if (others.isEmpty()) return;
+        byte[] row = raw(PART_COOC_PREFIX + partId);
+        byte[] member = raw(String.valueOf(partId));
+        long ttl = PART_COOC_TTL.toSeconds();
+        try {
+            circuitBreaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long other : others) {
+                    byte[] otherRow = raw(PART_COOC_PREFIX + other);
+                    connection.zSetCommands().zIncrBy(row, delta, raw(String.valueOf(other)));
+                    connection.zSetCommands().zIncrBy(otherRow, delta, member);
+                    if (delta < 0) {
+                        connection.zSetCommands().zRemRangeByScore(otherRow, Double.NEGATIVE_INFINITY, 0);
+                    }
+                    connection.keyCommands().expire(otherRow, ttl);
+                }
+                if (delta < 0) {
+                    connection.zSetCommands().zRemRangeByScore(row, Double.NEGATIVE_INFINITY, 0);
+                }
+                connection.keyCommands().expire(row, ttl);
+                return null;
+            }));
+        } catch (Exception e) {
+            logFailure(e, "Redis incrementPartCooccurrence 실패 (partId: {}): {}", partId, e.getMessage());
+        }
+    }
+
+    /**
+     * 추천 행렬 교체 (배치 재계산). 부품별로 임시 키에 적재 후 RENAME, 부품 500개 단위 파이프라인.
+     * rows: partId -> (부품 id -> 동시 관심 수). 결과에 없는 부품의 기존 행은 TTL 로 사라진다.
+     */
+    public void replacePartCooccurrence(Map<Long, Map<Long, Double>> rows) {
+        List<Map.Entry<Long, Map<Long, Double>>> entries = new ArrayList<>(rows.entrySet());
+        long ttl = PART_COOC_TTL.toSeconds();
+        try {
+            for (int from = 0; from < entries.size(); from += PART_COOC_REPLACE_CHUNK) {
+                List<Map.Entry<Long, Map<Long, Double>>> chunk =
+                        entries.subList(from, Math.min(entries.size(), from + PART_COOC_REPLACE_CHUNK));
+                circuitBreaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Map.Entry<Long, Map<Long, Double>> entry : chunk) {
+                        Set<Tuple> tuples = new HashSet<>();
+                        entry.getValue().forEach((other, count) -> tuples.add(Tuple.of(raw(String.valueOf(other)), count)));
+                        String key = PART_COOC_PREFIX + entry.getKey();
+                        replaceKey(connection, key, tmp -> connection.zSetCommands().zAdd(tmp, tuples), tuples.isEmpty());
+                        connection.keyCommands().expire(raw(key), ttl);
+                    }
+                    return null;
+                }));
+            }
+        } catch (Exception e) {
+            logFailure(e, "Redis replacePartCooccurrence 실패: {}", e.getMessage());
+        }
+    }
+
+    // ===== Primary Stickiness (read-your-writes) =====
+
+    public void markPrimarySticky(Long userId, long windowSeconds) {
+        try {
+            set(PRIMARY_STICKY_PREFIX + userId, 1, windowSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logFailure(e, "Redis markPrimarySticky 실패 (userId: {}): {}", userId, e.getMessage());
+        }
+    }
+
+    // 장애 시 false - replica 로 읽는다 (요청을 받은 파드의 로컬 기록은 PrimaryStickiness 가 따로 확인)
+    public boolean isPrimarySticky(Long userId) {
+        try {
+            return hasKey(PRIMARY_STICKY_PREFIX + userId);
+        } catch (Exception e) {
+            logFailure(e, "Redis isPrimarySticky 실패 (userId: {}): {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    // ===== Resource Version (ETag) =====
+
+    /**
+     * 리소스 버전 조회. 없으면 임의 값으로 초기화한다 (evict 후 첫 조회 시 새 버전).
+     */
+    public Long getResourceVersion(EtagResource resource, Long id) {
+        String key = resourceVersionKey(resource, id);
+        try {
+            Object value = getCached("etag", key);
+            if (value != null) return ((Number) value).longValue();
+
+            long version = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+            Boolean created = circuitBreaker.execute(() -> redisTemplate.opsForValue()
+                    .setIfAbsent(key, version, resource.getTtl().toSeconds(), TimeUnit.SECONDS));
+            if (Boolean.TRUE.equals(created)) return version;
+
+            Object current = get(key);
+            return current != null ? ((Number) current).longValue() : null;
+        } catch (Exception e) {
+            logFailure(e, "Redis getResourceVersion 실패 ({}): {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    public void evictResourceVersion(EtagResource resource, Long id) {
+        try {
+            delete(resourceVersionKey(resource, id));
+        } catch (Exception e) {
+            logFailure(e, "Redis evictResourceVersion 실패 ({}:{}): {}", resource.getKey(), id, e.getMessage());
+        }
+    }
+
+    private String resourceVersionKey(EtagResource resource, Long id) {
+        return RESOURCE_VERSION_PREFIX + resource.getKey() + ":" + id;
+    }
 }
@@ -44,42 +44,42 @@ VALUES ('Corsair RM850x 850W 80+ Gold', 'POWER_SUPPLY', 'Corsair', 'RM850x', nul
         159000, 189000, false, NOW(), NOW());
 
 -- Price Entries (Part 1: GPU - 3 sellers)
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (1, 1, 1190000, 'https://www.danawa.com/product/rtx4070tisuper', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (1, 1, 1, 1190000, 'https://www.danawa.com/product/rtx4070tisuper', true, false, NOW(), NOW());
 
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (1, 2, 1250000, 'https://www.compuzone.co.kr/product/rtx4070tisuper', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (2, 1, 2, 1250000, 'https://www.compuzone.co.kr/product/rtx4070tisuper', true, false, NOW(), NOW());
 
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (1, 3, 1390000, 'https://www.11st.co.kr/product/rtx4070tisuper', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (3, 1, 3, 1390000, 'https://www.11st.co.kr/product/rtx4070tisuper', true, false, NOW(), NOW());
 
 -- Price Entries (Part 2: CPU - 2 sellers)
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (2, 1, 449000, 'https://www.danawa.com/product/7800x3d', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (4, 2, 1, 449000, 'https://www.danawa.com/product/7800x3d', true, false, NOW(), NOW());
 
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (2, 2, 470000, 'https://www.compuzone.co.kr/product/7800x3d', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (5, 2, 2, 470000, 'https://www.compuzone.co.kr/product/7800x3d', true, false, NOW(), NOW());
 
 -- Price Entries (Part 3: RAM - 2 sellers)
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (3, 1, 139000, 'https://www.danawa.com/product/ddr5-32gb', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (6, 3, 1, 139000, 'https://www.danawa.com/product/ddr5-32gb', true, false, NOW(), NOW());
 
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (3, 3, 155000, 'https://www.11st.co.kr/product/ddr5-32gb', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (7, 3, 3, 155000, 'https://www.11st.co.kr/product/ddr5-32gb', true, false, NOW(), NOW());
 
 -- Price Entries (Part 4: MOTHERBOARD - 2 sellers)
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (4, 1, 289000, 'https://www.danawa.com/product/b650e-f', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (8, 4, 1, 289000, 'https://www.danawa.com/product/b650e-f', true, false, NOW(), NOW());
 
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (4, 2, 310000, 'https://www.compuzone.co.kr/product/b650e-f', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (9, 4, 2, 310000, 'https://www.compuzone.co.kr/product/b650e-f', true, false, NOW(), NOW());
 
 -- Price Entries (Part 5: PSU - 2 sellers)
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (5, 1, 159000, 'https://www.danawa.com/product/rm850x', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (10, 5, 1, 159000, 'https://www.danawa.com/product/rm850x', true, false, NOW(), NOW());
 
-INSERT INTO price_entries (part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
-VALUES (5, 3, 179000, 'https://www.11st.co.kr/product/rm850x', true, false, NOW(), NOW());
+INSERT INTO price_entries (id, part_id, seller_id, price, product_url, is_available, is_deleted, created_at, updated_at)
+VALUES (11, 5, 3, 179000, 'https://www.11st.co.kr/product/rm850x', true, false, NOW(), NOW());
 
 -- Sample Build (공개 견적 - admin 사용자, 5개 부품)
 INSERT INTO builds (user_id, name, description, total_price, is_public, view_count, like_count, is_deleted, created_at, updated_at)
@@ -101,27 +101,27 @@ INSERT INTO build_parts (build_id, part_id, quantity, unit_price, is_deleted, cr
 VALUES (1, 5, 1, 159000, false, NOW(), NOW());
 
 -- Price History (30일간 GPU/CPU 가격 변동)
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (1, 1, 1250000, DATEADD('DAY', -30, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (1, 1, 1230000, DATEADD('DAY', -25, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (1, 1, 1210000, DATEADD('DAY', -20, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (1, 1, 1200000, DATEADD('DAY', -15, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (1, 1, 1190000, DATEADD('DAY', -10, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (1, 1, 1190000, DATEADD('DAY', -5, CURRENT_DATE), false, NOW(), NOW());
-
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (2, 1, 480000, DATEADD('DAY', -30, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (2, 1, 465000, DATEADD('DAY', -20, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (2, 1, 455000, DATEADD('DAY', -10, CURRENT_DATE), false, NOW(), NOW());
-INSERT INTO price_history (part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
-VALUES (2, 1, 449000, CURRENT_DATE, false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (1, 1, 1, 1250000, DATEADD('DAY', -30, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (2, 1, 1, 1230000, DATEADD('DAY', -25, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (3, 1, 1, 1210000, DATEADD('DAY', -20, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (4, 1, 1, 1200000, DATEADD('DAY', -15, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (5, 1, 1, 1190000, DATEADD('DAY', -10, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (6, 1, 1, 1190000, DATEADD('DAY', -5, CURRENT_DATE), false, NOW(), NOW());
+
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (7, 2, 1, 480000, DATEADD('DAY', -30, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (8, 2, 1, 465000, DATEADD('DAY', -20, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (9, 2, 1, 455000, DATEADD('DAY', -10, CURRENT_DATE), false, NOW(), NOW());
+INSERT INTO price_history (id, part_id, seller_id, price, record_date, is_deleted, created_at, updated_at)
+VALUES (10, 2, 1, 449000, CURRENT_DATE, false, NOW(), NOW());
 
 -- Week 4: Sample Posts (FREE, QNA, NEWS)
 INSERT INTO posts (user_id, board_type, title, content, view_count, like_count, comment_count, is_deleted, created_at, updated_at)
@@ -158,11 +158,17 @@ INSERT INTO favorites (user_id, part_id, is_deleted, created_at, updated_at)
 VALUES (1, 3, false, NOW(), NOW());
 
 -- Phase 2: Sample Likes (admin -> post 1, review 1, build 1)
-INSERT INTO content_likes (user_id, target_type, target_id, is_deleted, created_at, updated_at)
-VALUES (1, 'POST', 1, false, NOW(), NOW());
+INSERT INTO content_likes (id, user_id, target_type, target_id, is_deleted, created_at, updated_at)
+VALUES (1, 1, 'POST', 1, false, NOW(), NOW());
 
-INSERT INTO content_likes (user_id, target_type, target_id, is_deleted, created_at, updated_at)
-VALUES (1, 'REVIEW', 1, false, NOW(), NOW());
+INSERT INTO content_likes (id, user_id, target_type, target_id, is_deleted, created_at, updated_at)
+VALUES (2, 1, 'REVIEW', 1, false, NOW(), NOW());
 
-INSERT INTO content_likes (user_id, target_type, target_id, is_deleted, created_at, updated_at)
-VALUES (1, 'BUILD', 1, false, NOW(), NOW());
+INSERT INTO content_likes (id, user_id, target_type, target_id, is_deleted, created_at, updated_at)
+VALUES (3, 1, 'BUILD', 1, false, NOW(), NOW());
+
+-- Pooled ID generators (id_generators) - seed past the explicit ids above
+MERGE INTO id_generators (gen_name, next_val) KEY (gen_name) VALUES ('price_entries', 61);
+MERGE INTO id_generators (gen_name, next_val) KEY (gen_name) VALUES ('price_history', 60);
+MERGE INTO id_generators (gen_name, next_val) KEY (gen_name) VALUES ('notifications', 50);
+MERGE INTO id_generators (gen_name, next_val) KEY (gen_name) VALUES ('content_likes', 53);
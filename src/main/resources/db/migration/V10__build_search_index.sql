@@ -0,0 +1,2 @@
+-- V10: Public build search (/search) - filter + like_count sort served from the index
+CREATE INDEX idx_builds_public_deleted_like ON builds (is_public, is_deleted, like_count);
@@ -0,0 +1,14 @@
+-- V11: Table-based pooled ID generators for high-volume tables
+-- IDENTITY ids force one INSERT round trip per row (Hibernate cannot batch them).
+-- With allocationSize = 50 the pooled optimizer reserves ids (next_val - 49 .. next_val) per fetch.
+
+CREATE TABLE id_generators (
+    gen_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- seed past existing ids (first block starts at next_val - 49)
+INSERT INTO id_generators (gen_name, next_val) SELECT 'price_entries', COALESCE(MAX(id), 0) + 50 FROM price_entries;
+INSERT INTO id_generators (gen_name, next_val) SELECT 'price_history', COALESCE(MAX(id), 0) + 50 FROM price_history;
+INSERT INTO id_generators (gen_name, next_val) SELECT 'notifications', COALESCE(MAX(id), 0) + 50 FROM notifications;
+INSERT INTO id_generators (gen_name, next_val) SELECT 'content_likes', COALESCE(MAX(id), 0) + 50 FROM content_likes;
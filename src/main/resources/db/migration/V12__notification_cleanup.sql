@@ -0,0 +1,24 @@
+-- V12: Chunked notification cleanup (NotificationPurgeService)
+
+-- stage 1: read + not deleted + created_at < cutoff
+CREATE INDEX idx_notification_cleanup_read ON notifications (is_read, is_deleted, created_at);
+
+-- stage 2: soft-deleted + deleted_at < cutoff
+CREATE INDEX idx_notification_cleanup_deleted ON notifications (is_deleted, deleted_at);
+
+-- Archive for purged notifications. notifications has an FK to users, and InnoDB
+-- partitioned tables cannot have foreign keys, so old rows are moved here instead of
+-- dropping partitions.
+CREATE TABLE notifications_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    link_url VARCHAR(500),
+    is_read BOOLEAN NOT NULL,
+    created_at DATETIME NOT NULL,
+    deleted_at DATETIME,
+    archived_at DATETIME NOT NULL,
+    INDEX idx_notification_archive_user (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,39 @@
+-- V13: Denormalized per-part review rating stats (Part.rating / PartRating)
+-- Kept in step by ReviewService under a parts row lock; list sorting needs no join to reviews.
+
+ALTER TABLE parts
+    ADD COLUMN review_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_sum INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_avg DOUBLE NOT NULL DEFAULT 0,
+    ADD COLUMN rating_1_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_2_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_3_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_4_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_5_count INT NOT NULL DEFAULT 0;
+
+-- Backfill from existing (non-deleted) reviews
+UPDATE parts p
+JOIN (
+    SELECT part_id,
+           COUNT(*) AS cnt,
+           SUM(rating) AS total,
+           SUM(rating = 1) AS r1,
+           SUM(rating = 2) AS r2,
+           SUM(rating = 3) AS r3,
+           SUM(rating = 4) AS r4,
+           SUM(rating = 5) AS r5
+    FROM reviews
+    WHERE is_deleted = FALSE
+    GROUP BY part_id
+) r ON r.part_id = p.id
+SET p.review_count = r.cnt,
+    p.rating_sum = r.total,
+    p.rating_avg = r.total / r.cnt,
+    p.rating_1_count = r.r1,
+    p.rating_2_count = r.r2,
+    p.rating_3_count = r.r3,
+    p.rating_4_count = r.r4,
+    p.rating_5_count = r.r5;
+
+-- category filter + rating sort (sort=rating)
+CREATE INDEX idx_parts_category_deleted_rating ON parts (category, is_deleted, rating_avg, review_count);
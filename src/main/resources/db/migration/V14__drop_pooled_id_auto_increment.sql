@@ -0,0 +1,9 @@
+-- V14: Drop AUTO_INCREMENT from ids allocated by id_generators (V11)
+-- A manual INSERT without an id would take MAX(id) + 1 and could collide with a block
+-- an application instance has already reserved. Without AUTO_INCREMENT such an INSERT
+-- fails immediately ("Field 'id' doesn't have a default value") instead of later.
+
+ALTER TABLE price_entries MODIFY id BIGINT NOT NULL;
+ALTER TABLE price_history MODIFY id BIGINT NOT NULL;
+ALTER TABLE notifications MODIFY id BIGINT NOT NULL;
+ALTER TABLE content_likes MODIFY id BIGINT NOT NULL;
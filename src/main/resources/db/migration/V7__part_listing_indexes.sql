@@ -0,0 +1,13 @@
+-- V7: Composite indexes for /parts listing (filter + sort served from the index)
+
+-- category filter + popularity sort (default listing order)
+CREATE INDEX idx_parts_category_deleted_popularity ON parts (category, is_deleted, popularity_score);
+
+-- category filter + price sort / price range filter
+CREATE INDEX idx_parts_category_deleted_price ON parts (category, is_deleted, lowest_price);
+
+-- mixed listing (no category) sorted by popularity
+CREATE INDEX idx_parts_deleted_popularity ON parts (is_deleted, popularity_score);
+
+-- idx_parts_category (category) is covered by the composite indexes above
+DROP INDEX idx_parts_category ON parts;
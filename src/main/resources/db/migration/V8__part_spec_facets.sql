@@ -0,0 +1,22 @@
+-- V8: Normalized spec facets extracted from parts.specs JSON (+ part name)
+-- Filled on part write; run POST /admin/parts/specs/reindex once after deploy for existing rows
+
+CREATE TABLE part_specs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    part_id BIGINT NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    spec_key VARCHAR(50) NOT NULL,
+    spec_value VARCHAR(100) NOT NULL,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    deleted_at DATETIME,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (part_id) REFERENCES parts(id),
+    UNIQUE KEY uk_part_spec (part_id, spec_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- facet counts: GROUP BY spec_key, spec_value within a category (index-only)
+CREATE INDEX idx_part_spec_facet ON part_specs (category, spec_key, spec_value, part_id);
+
+-- spec filters: part_id IN (SELECT part_id ... WHERE spec_key = ? AND spec_value IN (...))
+CREATE INDEX idx_part_spec_filter ON part_specs (spec_key, spec_value, part_id);
@@ -0,0 +1,4 @@
+-- V9: Reverse index part -> builds for price-change recalculation
+
+-- lowest price change: find builds containing the part without scanning build_parts
+CREATE INDEX idx_build_parts_part_build ON build_parts (part_id, build_id);
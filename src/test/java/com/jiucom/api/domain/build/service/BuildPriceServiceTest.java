@@ -0,0 +1,60 @@
+package com.jiucom.api.domain.build.service;
+
+import com.jiucom.api.domain.build.repository.BuildPartRepository;
+import com.jiucom.api.domain.build.repository.BuildRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BuildPriceServiceTest {
+
+    @InjectMocks
+    private BuildPriceService buildPriceService;
+
+    @Mock
+    private BuildRepository buildRepository;
+    @Mock
+    private BuildPartRepository buildPartRepository;
+
+    @Test
+    @DisplayName("가격 변동 - 해당 부품을 담은 견적만 재계산")
+    void applyPriceChanges_affectedBuildsOnly() {
+        given(buildPartRepository.findBuildIdsByPartIds(anyCollection())).willReturn(List.of(
+                new Object[]{1L, 10L},
+                new Object[]{1L, 11L},
+                new Object[]{2L, 10L}));
+
+        int affected = buildPriceService.applyPriceChanges(Map.of(1L, 430000, 2L, 129000, 3L, 99000));
+
+        assertThat(affected).isEqualTo(2);
+        verify(buildPartRepository).updateUnitPrice(1L, 430000);
+        verify(buildPartRepository).updateUnitPrice(2L, 129000);
+        verify(buildPartRepository, never()).updateUnitPrice(eq(3L), anyInt());
+        verify(buildRepository).recalculateTotalPrices(List.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("가격 변동 - 견적에 담기지 않은 부품이면 갱신 없음")
+    void applyPriceChanges_noBuilds() {
+        given(buildPartRepository.findBuildIdsByPartIds(anyCollection())).willReturn(List.of());
+
+        int affected = buildPriceService.applyPriceChanges(Map.of(3L, 99000));
+
+        assertThat(affected).isZero();
+        verify(buildPartRepository, never()).updateUnitPrice(anyLong(), anyInt());
+        verify(buildRepository, never()).recalculateTotalPrices(anyCollection());
+    }
+}
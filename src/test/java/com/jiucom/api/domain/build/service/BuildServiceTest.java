@@ -0,0 +1,193 @@
+package com.jiucom.api.domain.build.service;
+
+import com.jiucom.api.domain.build.dto.request.BuildCreateRequest;
+import com.jiucom.api.domain.build.dto.request.BuildPartRequest;
+import com.jiucom.api.domain.build.dto.request.BuildUpdateRequest;
+import com.jiucom.api.domain.build.dto.response.BuildDetailResponse;
+import com.jiucom.api.domain.build.entity.Build;
+import com.jiucom.api.domain.build.entity.BuildPart;
+import com.jiucom.api.domain.build.repository.BuildRepository;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.event.PartInterestChangedEvent;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.user.entity.User;
+import com.jiucom.api.domain.user.entity.enums.Role;
+import com.jiucom.api.domain.user.entity.enums.SocialType;
+import com.jiucom.api.domain.user.entity.enums.UserStatus;
+import com.jiucom.api.domain.user.repository.UserRepository;
+import com.jiucom.api.global.exception.GlobalException;
+import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.TestSecurityContextHelper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BuildServiceTest {
+
+    @InjectMocks
+    private BuildService buildService;
+
+    @Mock
+    private BuildRepository buildRepository;
+    @Mock
+    private PartRepository partRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CompatibilityService compatibilityService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private User testUser;
+    private Part cpu;
+    private Part ram;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder()
+                .email("test@test.com").password("enc").nickname("tester")
+                .role(Role.USER).socialType(SocialType.LOCAL).status(UserStatus.ACTIVE).build();
+        setId(testUser, 1L);
+
+        cpu = Part.builder().name("AMD Ryzen 7 7800X3D").category(PartCategory.CPU)
+                .manufacturer("AMD").lowestPrice(449000).build();
+        setId(cpu, 1L);
+        ram = Part.builder().name("Samsung DDR5 16GB").category(PartCategory.RAM)
+                .manufacturer("Samsung").lowestPrice(69000).build();
+        setId(ram, 2L);
+
+        TestSecurityContextHelper.setAuthentication(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestSecurityContextHelper.clearAuthentication();
+    }
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field f = entity.getClass().getDeclaredField("id");
+            f.setAccessible(true);
+            f.set(entity, id);
+        } catch (Exception e) { throw new RuntimeException(e); }
+    }
+
+    private void setField(Object target, String name, Object value) {
+        try {
+            Field f = target.getClass().getDeclaredField(name);
+            f.setAccessible(true);
+            f.set(target, value);
+        } catch (Exception e) { throw new RuntimeException(e); }
+    }
+
+    private BuildPartRequest partRequest(Long partId, int quantity) {
+        BuildPartRequest request = new BuildPartRequest();
+        setField(request, "partId", partId);
+        setField(request, "quantity", quantity);
+        return request;
+    }
+
+    @Nested
+    @DisplayName("견적 생성")
+    class CreateBuild {
+
+        @Test
+        @DisplayName("성공 - 부품 최저가 × 수량으로 총액 계산, 중복 부품은 수량 합산")
+        void createBuild_success() {
+            BuildCreateRequest request = new BuildCreateRequest();
+            setField(request, "name", "게이밍 견적");
+            setField(request, "parts", List.of(partRequest(1L, 1), partRequest(2L, 1), partRequest(2L, 1)));
+
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(partRepository.findAllById(any())).willReturn(List.of(cpu, ram));
+            given(compatibilityService.check(anyList())).willReturn(List.of());
+
+            BuildDetailResponse response = buildService.createBuild(request);
+
+            assertThat(response.getTotalPrice()).isEqualTo(449000 + 69000 * 2);
+            assertThat(response.getParts()).hasSize(2);
+            assertThat(response.getParts().get(1).getQuantity()).isEqualTo(2);
+            verify(buildRepository).save(any(Build.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 부품")
+        void createBuild_partNotFound() {
+            BuildCreateRequest request = new BuildCreateRequest();
+            setField(request, "name", "게이밍 견적");
+            setField(request, "parts", List.of(partRequest(1L, 1), partRequest(99L, 1)));
+
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(partRepository.findAllById(any())).willReturn(List.of(cpu));
+
+            assertThatThrownBy(() -> buildService.createBuild(request))
+                    .isInstanceOf(GlobalException.class)
+                    .satisfies(e -> assertThat(((GlobalException) e).getErrorCode())
+                            .isEqualTo(GlobalErrorCode.PART_NOT_FOUND));
+            verify(buildRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("견적 수정")
+    class UpdateBuild {
+
+        @Test
+        @DisplayName("실패 - 작성자가 아님")
+        void updateBuild_notOwner() {
+            User other = User.builder()
+                    .email("other@test.com").password("enc").nickname("other")
+                    .role(Role.USER).socialType(SocialType.LOCAL).status(UserStatus.ACTIVE).build();
+            setId(other, 2L);
+            Build build = Build.builder().user(other).name("남의 견적").build();
+            setId(build, 10L);
+
+            given(buildRepository.findById(10L)).willReturn(Optional.of(build));
+
+            assertThatThrownBy(() -> buildService.updateBuild(10L, new BuildUpdateRequest()))
+                    .isInstanceOf(GlobalException.class)
+                    .satisfies(e -> assertThat(((GlobalException) e).getErrorCode())
+                            .isEqualTo(GlobalErrorCode.BUILD_NOT_OWNER));
+        }
+
+        @Test
+        @DisplayName("성공 - 부품 변경 시 추가/제거된 부품만 관심 변경 이벤트로 발행")
+        void updateBuild_publishesPartDiff() {
+            Build build = Build.builder().user(testUser).name("내 견적").build();
+            setId(build, 10L);
+            build.replaceParts(List.of(BuildPart.builder().build(build).part(cpu).unitPrice(449000).build()));
+
+            BuildUpdateRequest request = new BuildUpdateRequest();
+            setField(request, "parts", List.of(partRequest(2L, 1)));
+
+            given(buildRepository.findById(10L)).willReturn(Optional.of(build));
+            given(partRepository.findAllById(any())).willReturn(List.of(ram));
+            given(compatibilityService.check(anyList())).willReturn(List.of());
+
+            buildService.updateBuild(10L, request);
+
+            ArgumentCaptor<PartInterestChangedEvent> captor = ArgumentCaptor.forClass(PartInterestChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+            assertThat(captor.getValue().getAddedPartIds()).containsExactly(2L);
+            assertThat(captor.getValue().getRemovedPartIds()).containsExactly(1L);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.jiucom.api.domain.build.service;
+
+import com.jiucom.api.domain.build.entity.BuildPart;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.service.PartSpecService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CompatibilityServiceTest {
+
+    @InjectMocks
+    private CompatibilityService compatibilityService;
+
+    @Mock
+    private PartSpecService partSpecService;
+
+    private BuildPart buildPart(Long id, PartCategory category) {
+        Part part = Part.builder().name("part-" + id).category(category).manufacturer("test").build();
+        try {
+            Field f = Part.class.getDeclaredField("id");
+            f.setAccessible(true);
+            f.set(part, id);
+        } catch (Exception e) { throw new RuntimeException(e); }
+        return BuildPart.builder().part(part).quantity(1).build();
+    }
+
+    @Test
+    @DisplayName("호환 - 경고 없음")
+    void check_compatible() {
+        given(partSpecService.getSpecMaps(any())).willReturn(Map.of(
+                1L, Map.of("socket", "AM5", "tdp", "120"),
+                2L, Map.of("socket", "AM5", "memoryType", "DDR5", "formFactor", "ATX"),
+                3L, Map.of("memoryType", "DDR5"),
+                4L, Map.of("wattage", "850"),
+                5L, Map.of("formFactor", "ATX")));
+
+        List<String> warnings = compatibilityService.check(List.of(
+                buildPart(1L, PartCategory.CPU), buildPart(2L, PartCategory.MOTHERBOARD),
+                buildPart(3L, PartCategory.RAM), buildPart(4L, PartCategory.POWER_SUPPLY),
+                buildPart(5L, PartCategory.CASE)));
+
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비호환 - 소켓/메모리/파워/폼팩터 모두 경고")
+    void check_incompatible() {
+        given(partSpecService.getSpecMaps(any())).willReturn(Map.of(
+                1L, Map.of("socket", "LGA1700", "tdp", "253"),
+                2L, Map.of("socket", "AM5", "memoryType", "DDR5", "formFactor", "ATX"),
+                3L, Map.of("memoryType", "DDR4"),
+                4L, Map.of("wattage", "500"),
+                5L, Map.of("formFactor", "MINI-ITX"),
+                6L, Map.of("tdp", "285")));
+
+        List<String> warnings = compatibilityService.check(List.of(
+                buildPart(1L, PartCategory.CPU), buildPart(2L, PartCategory.MOTHERBOARD),
+                buildPart(3L, PartCategory.RAM), buildPart(4L, PartCategory.POWER_SUPPLY),
+                buildPart(5L, PartCategory.CASE), buildPart(6L, PartCategory.GPU)));
+
+        assertThat(warnings).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("스펙 정보가 없는 부품은 검사 생략")
+    void check_missingSpecs() {
+        given(partSpecService.getSpecMaps(any())).willReturn(Map.of());
+
+        List<String> warnings = compatibilityService.check(List.of(
+                buildPart(1L, PartCategory.CPU), buildPart(2L, PartCategory.MOTHERBOARD)));
+
+        assertThat(warnings).isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.jiucom.api.domain.comment.service;
 
 import com.jiucom.api.domain.comment.dto.request.CommentCreateRequest;
+import com.jiucom.api.domain.comment.dto.response.CommentListResponse;
 import com.jiucom.api.domain.comment.dto.response.CommentResponse;
 import com.jiucom.api.domain.comment.entity.Comment;
 import com.jiucom.api.domain.comment.repository.CommentRepository;
@@ -23,13 +24,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +56,8 @@ class CommentServiceTest {
     private NotificationService notificationService;
     @Mock
     private RedisUtil redisUtil;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private User testUser;
     private User postAuthor;
@@ -119,6 +129,29 @@ class CommentServiceTest {
         org.mockito.Mockito.verifyNoInteractions(notificationService);
     }
 
+    @Test
+    @DisplayName("댓글 목록 - 답글은 루트 댓글 수와 무관하게 한 번에 조회")
+    void getComments_loadsRepliesInOneQuery() {
+        Comment root1 = Comment.builder().post(testPost).author(testUser).content("루트1").build();
+        Comment root2 = Comment.builder().post(testPost).author(postAuthor).content("루트2").build();
+        setId(root1, 10L);
+        setId(root2, 20L);
+        Comment reply = Comment.builder().post(testPost).author(postAuthor).parent(root1).content("답글").build();
+        setId(reply, 11L);
+
+        given(commentRepository.findByPostIdAndParentIsNullAndIsDeletedFalse(eq(1L), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(root1, root2), PageRequest.of(0, 20), 2));
+        given(commentRepository.findByParentIdInAndIsDeletedFalseOrderByCreatedAtAsc(List.of(10L, 20L)))
+                .willReturn(List.of(reply));
+
+        CommentListResponse response = commentService.getComments(1L, 0, 20);
+
+        assertThat(response.getComments()).hasSize(2);
+        assertThat(response.getComments().get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(11L);
+        assertThat(response.getComments().get(1).getReplies()).isEmpty();
+        verify(commentRepository, times(1)).findByParentIdInAndIsDeletedFalseOrderByCreatedAtAsc(any());
+    }
+
     @Test
     @DisplayName("댓글 삭제 - 작성자 권한 체크")
     void deleteComment_notAuthor() {
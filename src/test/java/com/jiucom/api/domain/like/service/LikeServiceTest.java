@@ -3,6 +3,7 @@ package com.jiucom.api.domain.like.service;
 import com.jiucom.api.domain.build.repository.BuildRepository;
 import com.jiucom.api.domain.comment.repository.CommentRepository;
 import com.jiucom.api.domain.like.dto.response.LikeResponse;
+import com.jiucom.api.domain.like.dto.response.LikeStatusResponse;
 import com.jiucom.api.domain.like.entity.ContentLike;
 import com.jiucom.api.domain.like.entity.enums.LikeTargetType;
 import com.jiucom.api.domain.like.repository.ContentLikeRepository;
@@ -17,20 +18,28 @@ import com.jiucom.api.domain.user.entity.enums.UserStatus;
 import com.jiucom.api.domain.user.repository.UserRepository;
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.TestSecurityContextHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +60,10 @@ class LikeServiceTest {
     private ReviewRepository reviewRepository;
     @Mock
     private BuildRepository buildRepository;
+    @Mock
+    private RedisUtil redisUtil;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private User testUser;
     private Post testPost;
@@ -98,6 +111,30 @@ class LikeServiceTest {
         assertThat(response.isLiked()).isTrue();
         assertThat(response.getLikeCount()).isEqualTo(1L);
         assertThat(testPost.getLikeCount()).isEqualTo(1);
+        verify(redisUtil).evictLikeCount(LikeTargetType.POST, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 - 트랜잭션 안에서는 커밋 후에 개수 캐시 무효화")
+    void toggleLike_evictsAfterCommit() {
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(contentLikeRepository.findByUserIdAndTargetTypeAndTargetId(1L, LikeTargetType.POST, 1L))
+                .willReturn(Optional.empty());
+        given(contentLikeRepository.save(any(ContentLike.class))).willAnswer(i -> i.getArgument(0));
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+        given(contentLikeRepository.countByTargetTypeAndTargetId(LikeTargetType.POST, 1L)).willReturn(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            likeService.toggleLike(LikeTargetType.POST, 1L);
+            verify(redisUtil, never()).evictLikeCount(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisUtil).evictLikeCount(LikeTargetType.POST, 1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -159,4 +196,47 @@ class LikeServiceTest {
         assertThat(response.isLiked()).isFalse();
         assertThat(response.getLikeCount()).isEqualTo(3L);
     }
+
+    @Test
+    @DisplayName("좋아요 상태 일괄 조회 - 캐시 미스만 GROUP BY, 좋아요 여부는 IN 1회")
+    void getLikeStatuses() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        given(redisUtil.getLikeCounts(LikeTargetType.POST, ids)).willReturn(Map.of(1L, 5L));
+        given(contentLikeRepository.countByTargetIds(LikeTargetType.POST, List.of(2L, 3L)))
+                .willReturn(List.<Object[]>of(new Object[]{2L, 4L}));
+        given(contentLikeRepository.findLikedTargetIds(1L, LikeTargetType.POST, ids)).willReturn(List.of(2L));
+
+        List<LikeStatusResponse> responses = likeService.getLikeStatuses(LikeTargetType.POST, ids);
+
+        assertThat(responses).extracting(LikeStatusResponse::getTargetId).containsExactly(1L, 2L, 3L);
+        assertThat(responses).extracting(LikeStatusResponse::getLikeCount).containsExactly(5L, 4L, 0L);
+        assertThat(responses).extracting(LikeStatusResponse::isLiked).containsExactly(false, true, false);
+        verify(redisUtil).cacheLikeCounts(LikeTargetType.POST, Map.of(2L, 4L, 3L, 0L));
+        verify(postRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 일괄 조회 - 비로그인은 좋아요 여부 조회 생략")
+    void getLikeStatuses_anonymous() {
+        TestSecurityContextHelper.clearAuthentication();
+        given(redisUtil.getLikeCounts(LikeTargetType.POST, List.of(1L))).willReturn(Map.of(1L, 5L));
+
+        List<LikeStatusResponse> responses = likeService.getLikeStatuses(LikeTargetType.POST, List.of(1L, 1L));
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).isLiked()).isFalse();
+        verify(contentLikeRepository, never()).findLikedTargetIds(any(), any(), any());
+        verify(contentLikeRepository, never()).countByTargetIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 일괄 조회 - 최대 개수 초과")
+    void getLikeStatuses_tooMany() {
+        List<Long> ids = LongStream.rangeClosed(1, LikeService.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        assertThatThrownBy(() -> likeService.getLikeStatuses(LikeTargetType.POST, ids))
+                .isInstanceOf(GlobalException.class)
+                .satisfies(ex -> assertThat(((GlobalException) ex).getErrorCode())
+                        .isEqualTo(GlobalErrorCode.INVALID_INPUT));
+    }
 }
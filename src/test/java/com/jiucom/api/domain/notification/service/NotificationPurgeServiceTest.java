@@ -0,0 +1,87 @@
+package com.jiucom.api.domain.notification.service;
+
+import com.jiucom.api.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPurgeServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationPurgeService purgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purgeService = new NotificationPurgeService(notificationRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(purgeService, "readRetentionDays", 30);
+        ReflectionTestUtils.setField(purgeService, "archiveAfterDays", 60);
+        ReflectionTestUtils.setField(purgeService, "chunkSize", 2);
+        ReflectionTestUtils.setField(purgeService, "throttleMs", 0L);
+    }
+
+    @Test
+    @DisplayName("soft delete - 청크가 가득 차면 다음 청크 반복, 모자라면 종료")
+    void softDelete_chunked() {
+        given(notificationRepository.softDeleteReadBefore(any(), any(), eq(2)))
+                .willReturn(2, 2, 1);
+
+        long total = purgeService.softDeleteOldRead(LocalDateTime.now());
+
+        assertThat(total).isEqualTo(5);
+        verify(notificationRepository, times(3)).softDeleteReadBefore(any(), any(), eq(2));
+        // 청크마다 별도 트랜잭션
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(meterRegistry.get("jiucom.notifications.cleanup.rows")
+                .tag("stage", "soft_delete").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("archive - 같은 id 청크를 archive 후 삭제")
+    void archive_movesThenDeletes() {
+        given(notificationRepository.findPurgeableIds(any(), eq(2)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(notificationRepository.deleteByIds(anyList()))
+                .willAnswer(i -> ((List<?>) i.getArgument(0)).size());
+
+        long total = purgeService.archiveDeleted(LocalDateTime.now());
+
+        assertThat(total).isEqualTo(3);
+        verify(notificationRepository).archiveByIds(eq(List.of(1L, 2L)), any());
+        verify(notificationRepository).deleteByIds(List.of(1L, 2L));
+        verify(notificationRepository).archiveByIds(eq(List.of(3L)), any());
+        verify(notificationRepository).deleteByIds(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 아무것도 삭제하지 않음")
+    void purge_nothingToDo() {
+        given(notificationRepository.softDeleteReadBefore(any(), any(), anyInt())).willReturn(0);
+        given(notificationRepository.findPurgeableIds(any(), anyInt())).willReturn(List.of());
+
+        purgeService.purge();
+
+        verify(notificationRepository, never()).archiveByIds(anyList(), any());
+        verify(notificationRepository, never()).deleteByIds(anyList());
+    }
+}
@@ -11,6 +11,7 @@ import com.jiucom.api.domain.user.entity.enums.UserStatus;
 import com.jiucom.api.domain.user.repository.UserRepository;
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.TestSecurityContextHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,13 +21,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -40,6 +46,8 @@ class NotificationServiceTest {
     private UserRepository userRepository;
     @Mock
     private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private RedisUtil redisUtil;
 
     private User testUser;
 
@@ -113,4 +121,94 @@ class NotificationServiceTest {
         verify(notificationRepository).save(any(Notification.class));
         verify(messagingTemplate).convertAndSend(eq("/queue/notifications/1"), (Object) any());
     }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 - Redis 카운터가 있으면 DB 조회 안 함")
+    void getUnreadCount_cached() {
+        given(redisUtil.getUnreadNotificationCount(1L)).willReturn(3L);
+
+        NotificationCountResponse response = notificationService.getUnreadCount();
+
+        assertThat(response.getUnreadCount()).isEqualTo(3L);
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalseAndIsDeletedFalse(any());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 - 카운터가 없으면 DB 로 적재")
+    void getUnreadCount_miss() {
+        given(notificationRepository.countByUserIdAndIsReadFalseAndIsDeletedFalse(1L)).willReturn(5L);
+
+        notificationService.getUnreadCount();
+
+        verify(redisUtil).setUnreadNotificationCount(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("알림 전송 - 카운터 증가 후 WebSocket 으로 push")
+    void sendNotification_incrementsCounter() {
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(notificationRepository.save(any(Notification.class))).willAnswer(i -> i.getArgument(0));
+        given(redisUtil.incrementUnreadNotificationCount(1L, 1)).willReturn(4L);
+
+        notificationService.sendNotification(1L, NotificationType.COMMENT_REPLY,
+                "알림 제목", "알림 내용", "/posts/1");
+
+        verify(messagingTemplate).convertAndSend(eq("/queue/notifications/1/unread-count"),
+                (Object) argThat(p -> p instanceof NotificationCountResponse r && r.getUnreadCount() == 4L));
+    }
+
+    @Test
+    @DisplayName("알림 읽음 처리 - 읽지 않은 알림만 카운터 감소")
+    void markAsRead_decrementsCounter() {
+        Notification unread = Notification.builder()
+                .user(testUser).type(NotificationType.COMMENT_REPLY)
+                .title("알림").message("메시지").build();
+        setId(unread, 1L);
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(unread));
+        given(redisUtil.incrementUnreadNotificationCount(1L, -1)).willReturn(2L);
+
+        notificationService.markAsRead(1L);
+        notificationService.markAsRead(1L);
+
+        verify(redisUtil).incrementUnreadNotificationCount(1L, -1);
+    }
+
+    @Test
+    @DisplayName("알림 전체 읽음 처리 - 카운터 0 으로 설정")
+    void markAllAsRead_resetsCounter() {
+        given(notificationRepository.markAllAsReadByUserId(1L)).willReturn(3);
+
+        notificationService.markAllAsRead();
+
+        verify(redisUtil).setUnreadNotificationCount(1L, 0);
+        verify(messagingTemplate).convertAndSend(eq("/queue/notifications/1/unread-count"), (Object) any());
+    }
+
+    @Test
+    @DisplayName("카운터 보정 - DB 값과 다른 사용자만 갱신")
+    void reconcileUnreadCounts() {
+        given(redisUtil.getUnreadNotificationCountUserIds()).willReturn(Set.of(1L, 2L));
+        given(notificationRepository.countUnreadByUserIds(anyList()))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 2L}));
+        given(redisUtil.getUnreadNotificationCounts(anyList())).willReturn(Map.of(1L, 2L, 2L, 7L));
+
+        int corrected = notificationService.reconcileUnreadCounts();
+
+        assertThat(corrected).isEqualTo(1);
+        verify(redisUtil).setUnreadNotificationCounts(Map.of(2L, 0L));
+        verify(redisUtil, never()).setUnreadNotificationCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터 보정 - MGET 실패한 청크는 건너뜀 (push 없음)")
+    void reconcileUnreadCounts_redisFailure() {
+        given(redisUtil.getUnreadNotificationCountUserIds()).willReturn(Set.of(1L, 2L));
+        given(redisUtil.getUnreadNotificationCounts(anyList())).willReturn(null);
+
+        int corrected = notificationService.reconcileUnreadCounts();
+
+        assertThat(corrected).isZero();
+        verify(redisUtil, never()).setUnreadNotificationCounts(any());
+        verifyNoInteractions(messagingTemplate, notificationRepository);
+    }
 }
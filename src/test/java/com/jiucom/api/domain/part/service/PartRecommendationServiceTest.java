@@ -0,0 +1,166 @@
+package com.jiucom.api.domain.part.service;
+
+import com.jiucom.api.domain.build.repository.BuildPartRepository;
+import com.jiucom.api.domain.favorite.repository.FavoriteRepository;
+import com.jiucom.api.domain.part.dto.response.PartListResponse;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.event.PartInterestChangedEvent;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.price.repository.PriceAlertRepository;
+import com.jiucom.api.global.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartRecommendationServiceTest {
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+    @Mock
+    private PriceAlertRepository priceAlertRepository;
+    @Mock
+    private BuildPartRepository buildPartRepository;
+    @Mock
+    private PartRepository partRepository;
+    @Mock
+    private RedisUtil redisUtil;
+
+    private PartRecommendationService partRecommendationService;
+
+    @BeforeEach
+    void setUp() {
+        partRecommendationService = new PartRecommendationService(favoriteRepository, priceAlertRepository,
+                buildPartRepository, partRepository, redisUtil, 20, 100, 3);
+    }
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field f = entity.getClass().getDeclaredField("id");
+            f.setAccessible(true);
+            f.set(entity, id);
+        } catch (Exception e) { throw new RuntimeException(e); }
+    }
+
+    private Part part(Long id, String name) {
+        Part part = Part.builder().name(name).category(PartCategory.CPU)
+                .manufacturer("AMD").lowestPrice(100000).build();
+        setId(part, id);
+        return part;
+    }
+
+    @Test
+    @DisplayName("희소 행렬 - 쌍 횟수 집계, 부품별 상위 k 개")
+    void cooccurrenceMatrix_countsAndTopNeighbours() {
+        CooccurrenceMatrix matrix = new CooccurrenceMatrix(4);
+        matrix.addBasket(List.of(1L, 2L, 3L));
+        matrix.addBasket(List.of(1L, 2L));
+        matrix.addBasket(List.of(2L, 1L, 4L));
+        // 초기 크기보다 많은 쌍 - rehash 후에도 횟수 유지
+        for (long id = 10; id < 40; id++) {
+            matrix.addBasket(List.of(1L, id));
+        }
+
+        assertThat(matrix.partCount()).isEqualTo(34);
+
+        Map<Long, Map<Long, Double>> top = matrix.topNeighbours(2);
+        assertThat(top.get(2L)).containsOnlyKeys(1L, 3L);
+        assertThat(top.get(2L).get(1L)).isEqualTo(3.0);
+        assertThat(top.get(1L)).hasSize(2).containsEntry(2L, 3.0);
+        assertThat(top.get(4L)).containsOnlyKeys(1L, 2L);
+
+        // 횟수는 방향과 무관, 함께 등장하지 않은 쌍은 없음, rehash 후에도 횟수 유지
+        Map<Long, Map<Long, Double>> all = matrix.topNeighbours(40);
+        assertThat(all.get(1L)).containsEntry(2L, 3.0).containsEntry(39L, 1.0);
+        assertThat(all.get(3L)).containsOnlyKeys(1L, 2L);
+        assertThat(all.get(4L)).doesNotContainKey(3L);
+    }
+
+    @Test
+    @DisplayName("추천 조회 - Redis 순서 유지, 삭제된 부품 제외")
+    void getRecommendations_keepsOrderAndSkipsDeleted() {
+        Part deleted = part(3L, "삭제됨");
+        deleted.softDelete();
+        given(redisUtil.getPartNeighbours(1L, 4)).willReturn(List.of(3L, 5L, 2L));
+        // DB 는 id 순서로 돌려준다 - 결과는 Redis 순서
+        given(partRepository.findAllById(List.of(3L, 5L, 2L)))
+                .willReturn(List.of(part(2L, "A"), deleted, part(5L, "B")));
+
+        List<PartListResponse> result = partRecommendationService.getRecommendations(1L, 2);
+
+        assertThat(result).extracting(PartListResponse::getId).containsExactly(5L, 2L);
+        verify(partRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("추천 조회 - Redis 장애면 빈 목록")
+    void getRecommendations_redisFailure() {
+        given(redisUtil.getPartNeighbours(anyLong(), anyInt())).willReturn(null);
+
+        assertThat(partRecommendationService.getRecommendations(1L, 10)).isEmpty();
+        verifyNoInteractions(partRepository);
+    }
+
+    @Test
+    @DisplayName("관심 추가 - 처음 들어온 부품만 기존 관심 부품과의 쌍을 증가")
+    void onInterestChanged_added() {
+        // 1: 기존 즐겨찾기, 2: 이번 견적으로 추가(이미 가격 알림에도 있음), 3: 이번에 처음 추가
+        given(favoriteRepository.findPartIdsByUserId(7L)).willReturn(List.of(1L));
+        given(priceAlertRepository.findPartIdsByUserId(7L)).willReturn(List.of(2L));
+        given(buildPartRepository.findPartIdsByUserId(7L)).willReturn(List.of(2L, 3L));
+
+        partRecommendationService.onInterestChanged(PartInterestChangedEvent.added(7L, List.of(2L, 3L)));
+
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(redisUtil).incrementPartCooccurrence(eq(3L), captor.capture(), eq(1));
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        verify(redisUtil, never()).incrementPartCooccurrence(eq(2L), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("관심 변경 - 완전히 빠진 부품은 감소 후 새 부품 증가 (변경 전 집합 기준)")
+    void onInterestChanged_replaced() {
+        given(favoriteRepository.findPartIdsByUserId(7L)).willReturn(List.of(1L));
+        given(priceAlertRepository.findPartIdsByUserId(7L)).willReturn(List.of());
+        given(buildPartRepository.findPartIdsByUserId(7L)).willReturn(List.of(3L));
+
+        partRecommendationService.onInterestChanged(new PartInterestChangedEvent(7L, List.of(3L), List.of(2L)));
+
+        InOrder inOrder = inOrder(redisUtil);
+        inOrder.verify(redisUtil).incrementPartCooccurrence(2L, List.of(1L), -1);
+        inOrder.verify(redisUtil).incrementPartCooccurrence(3L, List.of(1L), 1);
+    }
+
+    @Test
+    @DisplayName("재계산 - 세 출처를 사용자별로 합치고 상한을 넘는 관심 목록은 제외")
+    void rebuild_mergesSourcesAndSkipsOversizedBaskets() {
+        given(favoriteRepository.findAllUserPartIds()).willReturn(List.of(
+                new Object[]{1L, 10L}, new Object[]{2L, 10L},
+                new Object[]{3L, 10L}, new Object[]{3L, 11L}, new Object[]{3L, 12L}, new Object[]{3L, 13L}));
+        given(priceAlertRepository.findAllUserPartIds()).willReturn(List.<Object[]>of(new Object[]{1L, 11L}));
+        given(buildPartRepository.findAllUserPartIds()).willReturn(List.of(
+                new Object[]{1L, 10L}, new Object[]{2L, 11L}));
+
+        int rows = partRecommendationService.rebuild();
+
+        ArgumentCaptor<Map<Long, Map<Long, Double>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(redisUtil).replacePartCooccurrence(captor.capture());
+        // 사용자 1, 2 의 (10, 11) 만 집계 - 사용자 3 은 관심 부품 4개 > 상한 3
+        assertThat(captor.getValue()).isEqualTo(Map.of(10L, Map.of(11L, 2.0), 11L, Map.of(10L, 2.0)));
+        assertThat(rows).isEqualTo(2);
+    }
+}
@@ -4,8 +4,10 @@ import com.jiucom.api.domain.part.dto.request.PartCreateRequest;
 import com.jiucom.api.domain.part.dto.request.PartSearchRequest;
 import com.jiucom.api.domain.part.dto.request.PartUpdateRequest;
 import com.jiucom.api.domain.part.dto.response.PartDetailResponse;
+import com.jiucom.api.domain.part.dto.response.PartListResponse;
 import com.jiucom.api.domain.part.entity.Part;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.event.PartPriceChangedEvent;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.price.entity.PriceEntry;
 import com.jiucom.api.domain.price.repository.PriceEntryRepository;
@@ -21,8 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 
 import java.lang.reflect.Field;
@@ -33,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +49,12 @@ class PartServiceTest {
     @Mock
     private PriceEntryRepository priceEntryRepository;
 
+    @Mock
+    private PartSpecService partSpecService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private RedisUtil redisUtil;
 
@@ -83,9 +91,8 @@ class PartServiceTest {
         @Test
         @DisplayName("성공 - 키워드로 검색")
         void searchParts_success() {
-            Page<Part> page = new PageImpl<>(List.of(testPart));
-            given(partRepository.searchParts(any(), any(), any(), any(), any(Pageable.class)))
-                    .willReturn(page);
+            given(partRepository.searchPartList(any(), any(), any(), any(), any(), any(Pageable.class)))
+                    .willReturn(List.of(PartListResponse.from(testPart)));
 
             PartSearchRequest request = new PartSearchRequest();
             setFieldValue(request, "keyword", "Ryzen");
@@ -96,6 +103,45 @@ class PartServiceTest {
 
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getTotalElements()).isEqualTo(1);
+            // 첫 페이지가 다 차지 않으면 COUNT 생략
+            verify(partRepository, never()).countParts(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 캐시된 COUNT 사용")
+        void searchParts_cachedCount() {
+            given(partRepository.searchPartList(any(), any(), any(), any(), any(), any(Pageable.class)))
+                    .willReturn(List.of(PartListResponse.from(testPart)));
+            given(redisUtil.getCachedPartCount("CPU:null:null:{}:ryzen")).willReturn(41L);
+
+            PartSearchRequest request = new PartSearchRequest();
+            setFieldValue(request, "keyword", "Ryzen");
+            setFieldValue(request, "category", PartCategory.CPU);
+            setFieldValue(request, "page", 2);
+            setFieldValue(request, "size", 1);
+
+            PageResponse result = partService.searchParts(request);
+
+            assertThat(result.getTotalElements()).isEqualTo(41L);
+            verify(partRepository, never()).countParts(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 목록/COUNT/캐시 키에 같은 정규화 키워드 사용")
+        void searchParts_normalizedKeyword() {
+            given(partRepository.searchPartList(eq("ryzen"), any(), any(), any(), any(), any(Pageable.class)))
+                    .willReturn(List.of(PartListResponse.from(testPart)));
+            given(partRepository.countParts(eq("ryzen"), any(), any(), any(), any())).willReturn(41L);
+
+            PartSearchRequest request = new PartSearchRequest();
+            setFieldValue(request, "keyword", "  Ryzen ");
+            setFieldValue(request, "page", 2);
+            setFieldValue(request, "size", 1);
+
+            PageResponse result = partService.searchParts(request);
+
+            assertThat(result.getTotalElements()).isEqualTo(41L);
+            verify(redisUtil).cachePartCount("ALL:null:null:{}:ryzen", 41L);
         }
     }
 
@@ -167,6 +213,29 @@ class PartServiceTest {
 
             assertThat(response.getName()).isEqualTo("Intel i7-13700K");
             verify(partRepository).save(any(Part.class));
+            verify(partSpecService).reindex(any(Part.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("부품 수정 (Admin)")
+    class UpdatePart {
+
+        @Test
+        @DisplayName("성공 - 가격만 바뀌어도 가격 필터 COUNT 캐시 무효화")
+        void updatePart_priceOnly_evictsCounts() {
+            given(partRepository.findById(1L)).willReturn(Optional.of(testPart));
+            given(priceEntryRepository.findByPartIdOrderByPriceAsc(1L)).willReturn(List.of());
+
+            PartUpdateRequest request = new PartUpdateRequest();
+            setFieldValue(request, "lowestPrice", 140000);
+
+            partService.updatePart(1L, request);
+
+            assertThat(testPart.getLowestPrice()).isEqualTo(140000);
+            verify(eventPublisher).publishEvent(any(PartPriceChangedEvent.class));
+            verify(redisUtil).evictPartCounts();
+            verify(partSpecService, never()).reindex(any());
         }
     }
 
@@ -182,6 +251,7 @@ class PartServiceTest {
             partService.deletePart(1L);
 
             assertThat(testPart.isDeleted()).isTrue();
+            verify(partSpecService).removeIndex(1L);
         }
 
         @Test
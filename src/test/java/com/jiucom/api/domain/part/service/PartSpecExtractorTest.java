@@ -0,0 +1,81 @@
+package com.jiucom.api.domain.part.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartSpecExtractorTest {
+
+    private final PartSpecExtractor extractor = new PartSpecExtractor(new ObjectMapper());
+
+    @Test
+    @DisplayName("RAM - specs JSON 정규화 + 메모리 타입 추출")
+    void extract_ram() {
+        Part part = Part.builder()
+                .name("Samsung DDR5 32GB (16GBx2)")
+                .category(PartCategory.RAM)
+                .manufacturer("Samsung")
+                .specs("{\"capacity\":\"32GB (16GBx2)\",\"speed\":\"DDR5-5600\",\"latency\":\"CL40\"}")
+                .build();
+
+        Map<String, String> facets = extractor.extract(part);
+
+        assertThat(facets).containsEntry("capacity", "32GB")
+                .containsEntry("speed", "DDR5-5600")
+                .containsEntry("memoryType", "DDR5");
+    }
+
+    @Test
+    @DisplayName("메인보드 - 소켓/폼팩터 정규화")
+    void extract_motherboard() {
+        Part part = Part.builder()
+                .name("ASUS PRIME B760M-A")
+                .category(PartCategory.MOTHERBOARD)
+                .manufacturer("ASUS")
+                .specs("{\"socket\":\"LGA 1700\",\"formFactor\":\"Micro-ATX\",\"memorySlots\":4}")
+                .build();
+
+        Map<String, String> facets = extractor.extract(part);
+
+        assertThat(facets).containsEntry("socket", "LGA1700")
+                .containsEntry("formFactor", "M-ATX")
+                .containsEntry("memorySlots", "4");
+    }
+
+    @Test
+    @DisplayName("specs 없는 임포트 부품 - 부품명에서 추출")
+    void extract_fromName() {
+        Part part = Part.builder()
+                .name("마이크로닉스 Classic II 750W 80PLUS BRONZE")
+                .category(PartCategory.POWER_SUPPLY)
+                .manufacturer("마이크로닉스")
+                .build();
+
+        Map<String, String> facets = extractor.extract(part);
+
+        assertThat(facets).containsEntry("wattage", "750");
+    }
+
+    @Test
+    @DisplayName("필터 입력값도 같은 규칙으로 정규화")
+    void normalize_filterValue() {
+        assertThat(extractor.normalize("socket", "am5")).isEqualTo("AM5");
+        assertThat(extractor.normalize("wattage", "850W")).isEqualTo("850");
+        assertThat(extractor.normalize("capacity", "1 TB")).isEqualTo("1TB");
+    }
+
+    @Test
+    @DisplayName("키 정규화 - 공백 제거 + 소문자, 표준 키는 상수 표기")
+    void normalizeKey() {
+        assertThat(extractor.normalizeKey(" MemoryType ")).isEqualTo(PartSpecExtractor.MEMORY_TYPE);
+        assertThat(extractor.normalizeKey("SOCKET")).isEqualTo(PartSpecExtractor.SOCKET);
+        assertThat(extractor.normalizeKey("Chipset")).isEqualTo("chipset");
+        assertThat(extractor.normalizeKey("  ")).isNull();
+    }
+}
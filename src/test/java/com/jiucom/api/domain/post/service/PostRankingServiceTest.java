@@ -0,0 +1,160 @@
+package com.jiucom.api.domain.post.service;
+
+import com.jiucom.api.domain.post.dto.response.PostListResponse;
+import com.jiucom.api.domain.post.entity.Post;
+import com.jiucom.api.domain.post.entity.enums.BoardType;
+import com.jiucom.api.domain.post.event.PostEngagementEvent;
+import com.jiucom.api.domain.post.repository.PostRepository;
+import com.jiucom.api.domain.user.entity.User;
+import com.jiucom.api.domain.user.entity.enums.Role;
+import com.jiucom.api.domain.user.entity.enums.SocialType;
+import com.jiucom.api.domain.user.entity.enums.UserStatus;
+import com.jiucom.api.global.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostRankingServiceTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(24);
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostService postService;
+    @Mock
+    private RedisUtil redisUtil;
+
+    private PostRankingService postRankingService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        postRankingService = new PostRankingService(postRepository, postService, redisUtil,
+                HALF_LIFE, 1, 5, 3, Duration.ofDays(7), 1000);
+
+        testUser = User.builder()
+                .email("test@test.com").password("enc").nickname("tester")
+                .role(Role.USER).socialType(SocialType.LOCAL).status(UserStatus.ACTIVE).build();
+        setId(testUser, 1L);
+    }
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field f = entity.getClass().getDeclaredField("id");
+            f.setAccessible(true);
+            f.set(entity, id);
+        } catch (Exception e) { throw new RuntimeException(e); }
+    }
+
+    private Post post(Long id, String title) {
+        Post post = Post.builder()
+                .author(testUser).boardType(BoardType.FREE).title(title).content("내용").build();
+        setId(post, id);
+        return post;
+    }
+
+    @Test
+    @DisplayName("인기 게시글 - 랭킹 순서 유지, 삭제된 게시글 제외")
+    void getHotPosts_keepsRankingOrder() {
+        Post deleted = post(3L, "삭제됨");
+        deleted.softDelete();
+        given(redisUtil.getHotPostIds(BoardType.FREE, 0, 19)).willReturn(List.of(2L, 3L, 1L));
+        given(redisUtil.getHotPostCount(BoardType.FREE)).willReturn(3L);
+        given(postRepository.findByIdIn(List.of(2L, 3L, 1L)))
+                .willReturn(List.of(post(1L, "첫번째"), deleted, post(2L, "두번째")));
+
+        Page<PostListResponse> result = postRankingService.getHotPosts("free", 0, 20);
+
+        assertThat(result.getContent()).extracting(PostListResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        verify(postService, never()).getPosts(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("인기 게시글 - Redis 장애 시 최신순 목록으로 대체")
+    void getHotPosts_fallbackWhenRedisDown() {
+        given(redisUtil.getHotPostIds(null, 0, 19)).willReturn(null);
+        given(postService.getPosts(null, 0, 20)).willReturn(new PageImpl<>(List.of()));
+
+        postRankingService.getHotPosts(null, 0, 20);
+
+        verify(postService).getPosts(null, 0, 20);
+        verify(postRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("참여 이벤트 - 유형별 가중치 x 증감으로 갱신, 삭제는 랭킹에서 제거")
+    void onEngagement_appliesWeights() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        postRankingService.onEngagement(new PostEngagementEvent(1L, BoardType.QNA, createdAt,
+                PostEngagementEvent.Type.LIKE, -1));
+        postRankingService.onEngagement(new PostEngagementEvent(1L, BoardType.QNA, createdAt,
+                PostEngagementEvent.Type.COMMENT, 1));
+        postRankingService.onEngagement(new PostEngagementEvent(2L, BoardType.FREE, createdAt,
+                PostEngagementEvent.Type.DELETED, 1));
+
+        verify(redisUtil).recordHotPostEngagement(eq(BoardType.QNA), eq(1L), eq(-5.0), anyDouble());
+        verify(redisUtil).recordHotPostEngagement(eq(BoardType.QNA), eq(1L), eq(3.0), anyDouble());
+        verify(redisUtil).removeHotPost(BoardType.FREE, 2L);
+    }
+
+    @Test
+    @DisplayName("점수 - 반감기만큼 늦게 작성된 글은 참여도 절반으로 같은 점수")
+    void score_decaysByHalfLife() {
+        LocalDateTime older = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime newer = older.plus(HALF_LIFE);
+
+        // (1 + 9) · 2^0  ==  (1 + 4) · 2^1  (기준 시각 기준 상대 비교)
+        assertThat(postRankingService.score(9, older))
+                .isCloseTo(postRankingService.score(4, newer), within(1e-9));
+        assertThat(postRankingService.score(10, older)).isGreaterThan(postRankingService.score(4, newer));
+        assertThat(postRankingService.score(3, older)).isLessThan(postRankingService.score(4, newer));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("재계산 - DB 카운터로 게시판별/전체 점수와 참여도 적재")
+    void rebuild_loadsScoresFromCounters() {
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        given(postRepository.findEngagementSince(any())).willReturn(List.of(
+                new Object[]{1L, BoardType.FREE, createdAt, 10, 2, 1},
+                new Object[]{2L, BoardType.QNA, createdAt, 0, 0, 0}));
+
+        int count = postRankingService.rebuild();
+
+        ArgumentCaptor<Map<BoardType, Map<Long, Double>>> scores = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<Long, Double>> engagement = ArgumentCaptor.forClass(Map.class);
+        verify(redisUtil).replaceHotPostRanking(scores.capture(), engagement.capture());
+
+        assertThat(count).isEqualTo(2);
+        // 10 x 1 + 2 x 5 + 1 x 3
+        assertThat(engagement.getValue()).containsEntry(1L, 23.0).containsEntry(2L, 0.0);
+        assertThat(scores.getValue().get(BoardType.FREE)).containsOnlyKeys(1L);
+        assertThat(scores.getValue().get(BoardType.QNA)).containsOnlyKeys(2L);
+        assertThat(scores.getValue().get(null)).containsOnlyKeys(1L, 2L);
+        assertThat(scores.getValue().get(null).get(1L) - scores.getValue().get(null).get(2L))
+                .isCloseTo(Math.log(24) / Math.log(2), within(1e-9));
+    }
+}
@@ -3,6 +3,7 @@ package com.jiucom.api.domain.post.service;
 import com.jiucom.api.domain.post.dto.response.PostDetailResponse;
 import com.jiucom.api.domain.post.entity.Post;
 import com.jiucom.api.domain.post.entity.enums.BoardType;
+import com.jiucom.api.domain.post.event.PostEngagementEvent;
 import com.jiucom.api.domain.post.repository.PostRepository;
 import com.jiucom.api.domain.user.entity.User;
 import com.jiucom.api.domain.user.entity.enums.Role;
@@ -15,12 +16,16 @@ import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.TestSecurityContextHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Field;
 import java.util.List;
@@ -30,6 +35,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -46,6 +53,9 @@ class PostServiceTest {
     @Mock
     private RedisUtil redisUtil;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User testUser;
     private Post testPost;
 
@@ -127,4 +137,38 @@ class PostServiceTest {
         postService.deletePost(1L);
         assertThat(testPost.isDeleted()).isTrue();
     }
+
+    @Test
+    @DisplayName("게시글 삭제 - 트랜잭션 안에서는 커밋 후에 캐시/ETag 무효화")
+    void deletePost_evictsAfterCommit() {
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            postService.deletePost(1L);
+            verify(redisUtil, never()).evictPostDetail(any());
+            verify(redisUtil, never()).evictAllPostLists();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisUtil).evictPostDetail(1L);
+            verify(redisUtil).evictAllPostLists();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - 인기 랭킹용 조회 이벤트 발행")
+    void getPostDetail_publishesViewEvent() {
+        given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
+
+        postService.getPostDetail(1L);
+
+        ArgumentCaptor<PostEngagementEvent> captor = ArgumentCaptor.forClass(PostEngagementEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getPostId()).isEqualTo(1L);
+        assertThat(captor.getValue().getBoardType()).isEqualTo(BoardType.FREE);
+        assertThat(captor.getValue().getType()).isEqualTo(PostEngagementEvent.Type.VIEW);
+        assertThat(captor.getValue().getDelta()).isEqualTo(1);
+    }
 }
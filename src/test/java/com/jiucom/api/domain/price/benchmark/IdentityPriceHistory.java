@@ -0,0 +1,40 @@
+package com.jiucom.api.domain.price.benchmark;
+
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.seller.entity.Seller;
+import com.jiucom.api.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * PriceHistoryBulkInsertBenchmark 의 비교 대상 - PriceHistory 와 같은 컬럼을 V11 이전처럼 IDENTITY 로 매핑한다.
+ * (price_history 는 V14 에서 AUTO_INCREMENT 가 제거돼 같은 테이블을 쓸 수 없다)
+ */
+@Entity
+@Table(name = "benchmark_price_history_identity")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+class IdentityPriceHistory extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "part_id", nullable = false)
+    private Part part;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seller_id", nullable = false)
+    private Seller seller;
+
+    @Column(nullable = false)
+    private Integer price;
+
+    @Column(nullable = false)
+    private LocalDate recordDate;
+}
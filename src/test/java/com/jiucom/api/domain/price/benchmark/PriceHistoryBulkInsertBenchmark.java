@@ -0,0 +1,114 @@
+package com.jiucom.api.domain.price.benchmark;
+
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.price.entity.PriceHistory;
+import com.jiucom.api.domain.seller.entity.Seller;
+import com.jiucom.api.domain.seller.entity.enums.SellerStatus;
+import com.jiucom.api.domain.seller.repository.SellerRepository;
+import com.jiucom.api.global.util.Benchmark;
+import com.jiucom.api.global.util.BenchmarkReport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PriceHistory 100k 행 INSERT 처리량 비교 (수동 실행 전용).
+ *   JIUCOM_BENCHMARK=true ./gradlew test --tests '*PriceHistoryBulkInsertBenchmark'
+ * MySQL 에서 측정하려면 SPRING_DATASOURCE_URL(…&rewriteBatchedStatements=true) 등을 함께 지정한다.
+ *
+ * before: IDENTITY 매핑 엔티티 (IdentityPriceHistory) - persist 마다 INSERT 즉시 실행, 배치 불가
+ * after : PriceHistory - pooled ID + hibernate.jdbc.batch_size 배치 INSERT
+ * 두 경로 모두 같은 청크 단위 persist/flush/clear.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Benchmark
+class PriceHistoryBulkInsertBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private PartRepository partRepository;
+    @Autowired
+    private SellerRepository sellerRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("PriceHistory 100k INSERT - IDENTITY vs pooled 배치")
+    void insertThroughput() {
+        Part part = partRepository.save(Part.builder()
+                .name("Benchmark GPU").category(PartCategory.GPU).manufacturer("bench").build());
+        Seller seller = sellerRepository.save(Seller.builder()
+                .name("benchmark-seller-" + System.nanoTime()).siteUrl("https://example.com")
+                .status(SellerStatus.ACTIVE).build());
+        LocalDate baseDate = LocalDate.now();
+
+        try {
+            long identityNanos = insert(part, seller, (ref, i) -> IdentityPriceHistory.builder()
+                    .part(ref.part()).seller(ref.seller())
+                    .price(100_000 + i).recordDate(baseDate.minusDays(i % 365))
+                    .build());
+            long pooledNanos = insert(part, seller, (ref, i) -> PriceHistory.builder()
+                    .part(ref.part()).seller(ref.seller())
+                    .price(100_000 + i).recordDate(baseDate.minusDays(i % 365))
+                    .build());
+
+            new BenchmarkReport(String.format("PriceHistory %,d rows", ROWS))
+                    .add("IDENTITY", identityNanos, ROWS)
+                    .add("pooled + batch", pooledNanos, ROWS)
+                    .log();
+
+            assertThat(countRows("benchmark_price_history_identity", part)).isEqualTo(ROWS);
+            assertThat(countRows("price_history", part)).isEqualTo(ROWS);
+        } finally {
+            jdbcTemplate.update("DELETE FROM benchmark_price_history_identity WHERE part_id = ?", part.getId());
+            jdbcTemplate.update("DELETE FROM price_history WHERE part_id = ?", part.getId());
+            partRepository.deleteById(part.getId());
+            sellerRepository.deleteById(seller.getId());
+        }
+    }
+
+    private record Refs(Part part, Seller seller) {
+    }
+
+    // 청크마다 flush/clear - 영속성 컨텍스트가 100k 엔티티로 커지지 않도록
+    private long insert(Part part, Seller seller, BiFunction<Refs, Integer, Object> row) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int offset = 0; offset < ROWS; offset += CHUNK_SIZE) {
+                Refs refs = new Refs(entityManager.getReference(Part.class, part.getId()),
+                        entityManager.getReference(Seller.class, seller.getId()));
+                for (int i = offset; i < offset + CHUNK_SIZE; i++) {
+                    entityManager.persist(row.apply(refs, i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            }
+        });
+        return System.nanoTime() - start;
+    }
+
+    private long countRows(String table, Part part) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE part_id = ?", Long.class, part.getId());
+        return count != null ? count : 0;
+    }
+}
@@ -6,7 +6,7 @@ import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.price.dto.response.PriceComparisonResponse;
 import com.jiucom.api.domain.price.dto.response.PriceHistoryResponse;
 import com.jiucom.api.domain.price.entity.PriceEntry;
-import com.jiucom.api.domain.price.entity.PriceHistory;
+import com.jiucom.api.domain.price.repository.DailyPriceAggregate;
 import com.jiucom.api.domain.price.repository.PriceEntryRepository;
 import com.jiucom.api.domain.price.repository.PriceHistoryRepository;
 import com.jiucom.api.domain.seller.entity.Seller;
@@ -142,21 +142,18 @@ class PriceServiceTest {
         void getPriceHistory_success() {
             given(partRepository.findById(1L)).willReturn(Optional.of(testPart));
 
-            PriceHistory history = PriceHistory.builder()
-                    .part(testPart)
-                    .seller(testSeller)
-                    .price(155000)
-                    .recordDate(LocalDate.now().minusDays(1))
-                    .build();
-            given(priceHistoryRepository.findByPartIdAndRecordDateBetweenOrderByRecordDateAsc(
+            DailyPriceAggregate day = new DailyPriceAggregate(
+                    LocalDate.now().minusDays(1), 150000, 160000, 155000.0);
+            given(priceHistoryRepository.findDailyAggregates(
                     eq(1L), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(List.of(history));
+                    .willReturn(List.of(day));
 
             PriceHistoryResponse response = priceService.getPriceHistory(1L, "30d");
 
             assertThat(response.getPartId()).isEqualTo(1L);
             assertThat(response.getHistory()).hasSize(1);
             assertThat(response.getHistory().get(0).getAveragePrice()).isEqualTo(155000);
+            assertThat(response.getHistory().get(0).getLowestPrice()).isEqualTo(150000);
         }
 
         @Test
@@ -174,7 +171,7 @@ class PriceServiceTest {
         @DisplayName("성공 - null period는 기본값 30d")
         void getPriceHistory_nullPeriod() {
             given(partRepository.findById(1L)).willReturn(Optional.of(testPart));
-            given(priceHistoryRepository.findByPartIdAndRecordDateBetweenOrderByRecordDateAsc(
+            given(priceHistoryRepository.findDailyAggregates(
                     eq(1L), any(LocalDate.class), any(LocalDate.class)))
                     .willReturn(List.of());
 
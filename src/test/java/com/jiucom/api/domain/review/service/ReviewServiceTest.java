@@ -4,6 +4,7 @@ import com.jiucom.api.domain.part.entity.Part;
 import com.jiucom.api.domain.part.entity.enums.PartCategory;
 import com.jiucom.api.domain.part.repository.PartRepository;
 import com.jiucom.api.domain.review.dto.request.ReviewCreateRequest;
+import com.jiucom.api.domain.review.dto.request.ReviewUpdateRequest;
 import com.jiucom.api.domain.review.dto.response.ReviewResponse;
 import com.jiucom.api.domain.review.entity.Review;
 import com.jiucom.api.domain.review.repository.ReviewRepository;
@@ -14,6 +15,7 @@ import com.jiucom.api.domain.user.entity.enums.UserStatus;
 import com.jiucom.api.domain.user.repository.UserRepository;
 import com.jiucom.api.global.exception.GlobalException;
 import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.RedisUtil;
 import com.jiucom.api.global.util.TestSecurityContextHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +30,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ReviewServiceTest {
@@ -41,6 +45,8 @@ class ReviewServiceTest {
     private PartRepository partRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private RedisUtil redisUtil;
 
     private User testUser;
     private Part testPart;
@@ -76,7 +82,7 @@ class ReviewServiceTest {
     @DisplayName("리뷰 생성 - 성공")
     void createReview_success() {
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(partRepository.findById(1L)).willReturn(Optional.of(testPart));
+        given(partRepository.findByIdForUpdate(1L)).willReturn(Optional.of(testPart));
         given(reviewRepository.existsByAuthorIdAndPartId(1L, 1L)).willReturn(false);
         given(reviewRepository.save(any(Review.class))).willAnswer(i -> i.getArgument(0));
 
@@ -95,7 +101,7 @@ class ReviewServiceTest {
     @DisplayName("리뷰 생성 - 중복 리뷰 거부")
     void createReview_duplicate() {
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(partRepository.findById(1L)).willReturn(Optional.of(testPart));
+        given(partRepository.findByIdForUpdate(1L)).willReturn(Optional.of(testPart));
         given(reviewRepository.existsByAuthorIdAndPartId(1L, 1L)).willReturn(true);
 
         ReviewCreateRequest request = new ReviewCreateRequest();
@@ -116,7 +122,9 @@ class ReviewServiceTest {
         Review review = Review.builder()
                 .author(testUser).part(testPart).rating(5).content("리뷰").build();
         setId(review, 1L);
-        given(reviewRepository.findById(1L)).willReturn(Optional.of(review));
+        given(reviewRepository.findPartIdById(1L)).willReturn(Optional.of(1L));
+        given(partRepository.findByIdForUpdate(1L)).willReturn(Optional.of(testPart));
+        given(reviewRepository.findByIdForUpdate(1L)).willReturn(Optional.of(review));
 
         assertThatThrownBy(() -> reviewService.deleteReview(1L))
                 .isInstanceOf(GlobalException.class)
@@ -130,12 +138,75 @@ class ReviewServiceTest {
         Review review = Review.builder()
                 .author(testUser).part(testPart).rating(5).content("리뷰").build();
         setId(review, 1L);
-        given(reviewRepository.findById(1L)).willReturn(Optional.of(review));
+        given(reviewRepository.findPartIdById(1L)).willReturn(Optional.of(1L));
+        given(partRepository.findByIdForUpdate(1L)).willReturn(Optional.of(testPart));
+        given(reviewRepository.findByIdForUpdate(1L)).willReturn(Optional.of(review));
 
         reviewService.deleteReview(1L);
         assertThat(review.isDeleted()).isTrue();
     }
 
+    @Test
+    @DisplayName("리뷰 삭제 - 잠금 후 이미 삭제된 리뷰면 집계를 다시 빼지 않음")
+    void deleteReview_alreadyDeletedUnderLock() {
+        testPart.addReviewRating(5);
+        Review review = Review.builder()
+                .author(testUser).part(testPart).rating(5).content("리뷰").build();
+        setId(review, 1L);
+        given(reviewRepository.findPartIdById(1L)).willReturn(Optional.of(1L));
+        given(partRepository.findByIdForUpdate(1L)).willReturn(Optional.of(testPart));
+        given(reviewRepository.findByIdForUpdate(1L)).willReturn(Optional.of(review));
+
+        reviewService.deleteReview(1L);
+        assertThatThrownBy(() -> reviewService.deleteReview(1L))
+                .isInstanceOf(GlobalException.class)
+                .satisfies(ex -> assertThat(((GlobalException) ex).getErrorCode())
+                        .isEqualTo(GlobalErrorCode.REVIEW_NOT_FOUND));
+
+        assertThat(testPart.getRating().getReviewCount()).isZero();
+        assertThat(testPart.getRating().getRatingSum()).isZero();
+    }
+
+    @Test
+    @DisplayName("평점 집계 - 작성/수정/삭제 시 부품의 리뷰 수, 평균, 분포 갱신")
+    void ratingAggregates() {
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(partRepository.findByIdForUpdate(1L)).willReturn(Optional.of(testPart));
+        given(reviewRepository.existsByAuthorIdAndPartId(1L, 1L)).willReturn(false);
+        given(reviewRepository.save(any(Review.class))).willAnswer(i -> i.getArgument(0));
+        testPart.addReviewRating(3);
+
+        ReviewCreateRequest request = new ReviewCreateRequest();
+        setField(request, "partId", 1L);
+        setField(request, "rating", 5);
+        setField(request, "content", "좋은 제품입니다!");
+        reviewService.createReview(request);
+
+        assertThat(testPart.getRating().getReviewCount()).isEqualTo(2);
+        assertThat(testPart.getRating().getAverage()).isEqualTo(4.0);
+        assertThat(testPart.getRating().getDistribution()).containsExactly(0, 0, 1, 0, 1);
+
+        Review review = Review.builder()
+                .author(testUser).part(testPart).rating(5).content("리뷰").build();
+        setId(review, 1L);
+        given(reviewRepository.findPartIdById(1L)).willReturn(Optional.of(1L));
+        given(reviewRepository.findByIdForUpdate(1L)).willReturn(Optional.of(review));
+
+        ReviewUpdateRequest update = new ReviewUpdateRequest();
+        setField(update, "rating", 1);
+        reviewService.updateReview(1L, update);
+
+        assertThat(testPart.getRating().getAverage()).isEqualTo(2.0);
+        assertThat(testPart.getRating().getDistribution()).containsExactly(1, 0, 1, 0, 0);
+
+        reviewService.deleteReview(1L);
+
+        assertThat(testPart.getRating().getReviewCount()).isEqualTo(1);
+        assertThat(testPart.getRating().getRatingSum()).isEqualTo(3);
+        assertThat(testPart.getRating().getDistribution()).containsExactly(0, 0, 1, 0, 0);
+        verify(redisUtil, times(3)).evictPartDetail(1L);
+    }
+
     private void setField(Object obj, String fieldName, Object value) {
         try {
             Field f = obj.getClass().getDeclaredField(fieldName);
@@ -0,0 +1,137 @@
+package com.jiucom.api.domain.search.service;
+
+import com.jiucom.api.domain.build.repository.BuildRepository;
+import com.jiucom.api.domain.part.dto.response.PartListResponse;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.post.repository.PostRepository;
+import com.jiucom.api.domain.search.dto.response.SearchResultResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private PartRepository partRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private BuildRepository buildRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        FederatedSearchExecutor federatedSearchExecutor =
+                new FederatedSearchExecutor(executor, transactionManager, 300);
+        searchService = new SearchService(partRepository, postRepository, buildRepository, federatedSearchExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private PartListResponse part() {
+        return PartListResponse.builder()
+                .id(1L).name("AMD Ryzen 7 7800X3D").category("CPU").manufacturer("AMD").lowestPrice(449000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 모든 소스 응답, COUNT 없음")
+    void search_allSources() {
+        given(partRepository.searchPartList(eq("ryzen"), any(), any(), any(), anyMap(), any(Pageable.class)))
+                .willReturn(List.of(part()));
+        given(postRepository.searchPostList("ryzen", 10)).willReturn(List.of());
+        given(buildRepository.searchBuilds("ryzen", 10)).willReturn(List.of());
+
+        SearchResultResponse result = searchService.search("ryzen", 10);
+
+        assertThat(result.getParts()).hasSize(1);
+        assertThat(result.isPartial()).isFalse();
+        assertThat(result.getIncompleteSources()).isEmpty();
+        verify(partRepository, never()).countParts(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 느린 소스는 빈 결과 + partial")
+    void search_slowSource() {
+        given(partRepository.searchPartList(eq("ryzen"), any(), any(), any(), anyMap(), any(Pageable.class)))
+                .willReturn(List.of(part()));
+        given(postRepository.searchPostList("ryzen", 10)).willAnswer(invocation -> {
+            Thread.sleep(2000);
+            return List.of();
+        });
+        given(buildRepository.searchBuilds("ryzen", 10)).willThrow(new IllegalStateException("db down"));
+
+        long start = System.currentTimeMillis();
+        SearchResultResponse result = searchService.search("ryzen", 10);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(1500);
+        assertThat(result.getParts()).hasSize(1);
+        assertThat(result.getPosts()).isEmpty();
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getIncompleteSources()).containsExactlyInAnyOrder("posts", "builds");
+    }
+
+    @Test
+    @DisplayName("통합 검색 - deadline 을 넘긴 소스는 실행 스레드를 interrupt 해 중단")
+    void search_slowSourceIsCancelled() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        given(partRepository.searchPartList(eq("ryzen"), any(), any(), any(), anyMap(), any(Pageable.class)))
+                .willReturn(List.of(part()));
+        given(postRepository.searchPostList("ryzen", 10)).willAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return List.of();
+        });
+        given(buildRepository.searchBuilds("ryzen", 10)).willReturn(List.of());
+
+        SearchResultResponse result = searchService.search("ryzen", 10);
+
+        assertThat(result.getIncompleteSources()).containsExactly("posts");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 실행기가 거절하면 요청 스레드에서 실행하지 않고 partial")
+    void search_rejectedSource() {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("saturated");
+        };
+        SearchService saturated = new SearchService(partRepository, postRepository, buildRepository,
+                new FederatedSearchExecutor(rejecting, transactionManager, 300));
+
+        SearchResultResponse result = saturated.search("ryzen", 10);
+
+        assertThat(result.getParts()).isEmpty();
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getIncompleteSources()).containsExactlyInAnyOrder("parts", "posts", "builds");
+        verify(partRepository, never()).searchPartList(any(), any(), any(), any(), anyMap(), any());
+    }
+}
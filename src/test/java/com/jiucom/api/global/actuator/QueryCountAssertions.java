@@ -0,0 +1,47 @@
+package com.jiucom.api.global.actuator;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청/서비스 호출당 SQL 수 상한(query budget)을 테스트에 고정한다.
+ * 행마다 쿼리가 늘어나는 회귀(N+1)가 생기면 상한을 넘어 CI 에서 실패한다.
+ */
+public class QueryCountAssertions {
+
+    /**
+     * 같은 스레드에서 실행되는 호출 (@SpringBootTest 에서 서비스 직접 호출 등).
+     * 다른 스레드로 넘어가는 쿼리(통합 검색 하위 검색 등)는 집계되지 않는다.
+     */
+    public static <T> T assertMaxQueries(int max, Supplier<T> action) {
+        QueryCountInspector.begin();
+        T result;
+        QueryCount count;
+        try {
+            result = action.get();
+        } finally {
+            count = QueryCountInspector.end();
+        }
+        assertThat(count.getTotal())
+                .as("SQL statements %s, most repeated SELECT x%d: %s",
+                        count, count.getMaxRepeatedSelect(), count.getMostRepeatedSelect())
+                .isLessThanOrEqualTo(max);
+        return result;
+    }
+
+    /**
+     * RANDOM_PORT 통합 테스트 - 서버 스레드의 집계는 X-Query-Count 응답 헤더로 확인한다.
+     */
+    public static void assertMaxQueries(ResponseEntity<?> response, int max) {
+        String header = response.getHeaders().getFirst(QueryCountHeaderAdvice.HEADER);
+        assertThat(header)
+                .as("%s header (metrics.query-count.response-header)", QueryCountHeaderAdvice.HEADER)
+                .isNotNull();
+        assertThat(Integer.parseInt(header))
+                .as("SQL statements for this request")
+                .isLessThanOrEqualTo(max);
+    }
+}
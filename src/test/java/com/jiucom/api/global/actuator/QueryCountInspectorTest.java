@@ -0,0 +1,58 @@
+package com.jiucom.api.global.actuator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountInspectorTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @AfterEach
+    void tearDown() {
+        QueryCountInspector.end();
+    }
+
+    @Test
+    @DisplayName("begin 이후 실행된 SQL 을 종류별로 집계")
+    void countsByStatementType() {
+        QueryCountInspector.begin();
+
+        inspector.inspect("select p1_0.id from parts p1_0");
+        inspector.inspect("  SELECT 1");
+        inspector.inspect("insert into price_history (id) values (?)");
+        inspector.inspect("update posts set view_count=view_count+1 where id=?");
+
+        QueryCount count = QueryCountInspector.end();
+        assertThat(count.getSelect()).isEqualTo(2);
+        assertThat(count.getInsert()).isEqualTo(1);
+        assertThat(count.getUpdate()).isEqualTo(1);
+        assertThat(count.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("begin 전에는 집계하지 않고 SQL 은 그대로 반환")
+    void notStarted() {
+        String sql = "select 1";
+
+        assertThat(inspector.inspect(sql)).isSameAs(sql);
+        assertThat(QueryCountInspector.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 SELECT 반복 횟수 집계 (N+1 탐지)")
+    void repeatedSelect() {
+        QueryCountInspector.begin();
+
+        inspector.inspect("select p1_0.id from posts p1_0");
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect("select u1_0.id,u1_0.nickname from users u1_0 where u1_0.id=?");
+        }
+
+        QueryCount count = QueryCountInspector.end();
+        assertThat(count.getMaxRepeatedSelect()).isEqualTo(3);
+        assertThat(count.getMostRepeatedSelect()).contains("from users");
+    }
+}
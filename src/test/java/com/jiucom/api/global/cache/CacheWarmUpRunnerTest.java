@@ -0,0 +1,104 @@
+package com.jiucom.api.global.cache;
+
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.part.service.PartService;
+import com.jiucom.api.domain.post.entity.enums.BoardType;
+import com.jiucom.api.domain.post.service.PostService;
+import com.jiucom.api.domain.price.service.PriceService;
+import com.jiucom.api.global.exception.GlobalException;
+import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmUpRunnerTest {
+
+    @Mock
+    private PartRepository partRepository;
+    @Mock
+    private PartService partService;
+    @Mock
+    private PriceService priceService;
+    @Mock
+    private PostService postService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private CacheWarmUpRunner runner(int parallelism, Duration timeout) {
+        return new CacheWarmUpRunner(partRepository, partService, priceService, postService, meterRegistry,
+                2, 1, 20, parallelism, timeout);
+    }
+
+    private double items(String type, String result) {
+        return meterRegistry.counter("jiucom.cache.warmup.items", "type", type, "result", result).count();
+    }
+
+    @Test
+    @DisplayName("인기 부품 상세/가격 비교, 게시판별 첫 페이지, 카테고리 적재")
+    void warmsAllCaches() {
+        given(partRepository.findPopularIds(any())).willReturn(List.of(1L, 2L));
+
+        runner(4, Duration.ofSeconds(5)).run(null);
+
+        verify(partService).getAllCategories();
+        verify(postService).getPosts(null, 0, 20);
+        for (BoardType boardType : BoardType.values()) {
+            verify(postService).getPosts(boardType.name(), 0, 20);
+        }
+        verify(partService).getPartDetail(1L);
+        verify(partService).getPartDetail(2L);
+        verify(priceService).getPriceComparison(1L);
+        verify(priceService).getPriceComparison(2L);
+        assertThat(items("post_list", "ok")).isEqualTo(BoardType.values().length + 1);
+        assertThat(items("part_detail", "ok")).isEqualTo(2);
+        assertThat(meterRegistry.timer("jiucom.cache.warmup.duration").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("항목 실패는 나머지 적재를 막지 않음")
+    void failureIsIsolated() {
+        given(partRepository.findPopularIds(any())).willReturn(List.of(1L, 2L));
+        given(partService.getPartDetail(1L)).willThrow(new GlobalException(GlobalErrorCode.PART_NOT_FOUND));
+
+        runner(2, Duration.ofSeconds(5)).run(null);
+
+        assertThat(items("part_detail", "error")).isEqualTo(1);
+        assertThat(items("part_detail", "ok")).isEqualTo(1);
+        verify(priceService).getPriceComparison(1L);
+    }
+
+    @Test
+    @DisplayName("시간 예산 초과 - 남은 항목은 건너뛰고 기동 계속")
+    void stopsAtTimeout() {
+        given(partRepository.findPopularIds(any())).willReturn(List.of());
+        given(partService.getAllCategories()).willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+
+        long start = System.nanoTime();
+        runner(1, Duration.ofMillis(200)).run(null);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        assertThat(items("part_categories", "timeout")).isEqualTo(1);
+        assertThat(items("post_list", "timeout")).isEqualTo(BoardType.values().length + 1);
+    }
+}
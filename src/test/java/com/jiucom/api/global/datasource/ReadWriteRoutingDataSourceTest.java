@@ -0,0 +1,130 @@
+package com.jiucom.api.global.datasource;
+
+import com.jiucom.api.global.util.RedisUtil;
+import com.jiucom.api.global.util.TestSecurityContextHelper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource replica1;
+    private DataSource replica2;
+    private ReplicaHealthMonitor monitor;
+    private RedisUtil redisUtil;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        replica1 = replica(true);
+        replica2 = replica(true);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        monitor = new ReplicaHealthMonitor(replicas, "", 5, registry);
+        monitor.check();
+        redisUtil = mock(RedisUtil.class);
+        routing = new ReadWriteRoutingDataSource(monitor, new PrimaryStickiness(5, redisUtil), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TestSecurityContextHelper.clearAuthentication();
+    }
+
+    private DataSource replica(boolean valid) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(valid);
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 → primary")
+    void write_routesToPrimary() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 트랜잭션 → replica 라운드 로빈")
+    void readOnly_routesToReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("정상 replica 없음 → primary 로 fallback")
+    void readOnly_noHealthyReplica_fallsBackToPrimary() throws SQLException {
+        given(replica1.getConnection()).willThrow(new SQLException("down"));
+        given(replica2.getConnection().isValid(anyInt())).willReturn(false);
+        monitor.check();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(monitor.getHealthyReplicas()).isEmpty();
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자의 읽기 → primary 고정")
+    void readAfterWrite_sameUser_sticksToPrimary() {
+        TestSecurityContextHelper.setAuthentication(1L);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routing.determineCurrentLookupKey();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+
+        TestSecurityContextHelper.setAuthentication(2L);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        verify(redisUtil).markPrimarySticky(1L, 5);
+    }
+
+    @Test
+    @DisplayName("다른 파드에서 쓴 사용자의 읽기 → Redis 기록으로 primary 고정")
+    void readAfterWriteOnOtherPod_sticksToPrimary() {
+        given(redisUtil.isPrimarySticky(1L)).willReturn(true);
+        TestSecurityContextHelper.setAuthentication(1L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("종료 시 replica 풀을 닫고 라우팅 대상에서 제외")
+    void close_closesReplicaPools() {
+        HikariDataSource pool = mock(HikariDataSource.class);
+        ReplicaHealthMonitor closing = new ReplicaHealthMonitor(
+                Map.of("replica-1", pool), "", 5, new SimpleMeterRegistry());
+
+        closing.close();
+
+        verify(pool).close();
+        assertThat(closing.getHealthyReplicas()).isEmpty();
+    }
+}
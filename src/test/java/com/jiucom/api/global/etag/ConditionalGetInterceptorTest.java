@@ -0,0 +1,113 @@
+package com.jiucom.api.global.etag;
+
+import com.jiucom.api.global.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetInterceptorTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ConditionalGetInterceptor interceptor;
+    private HandlerMethod handler;
+
+    static class SampleController {
+        @ConditionalGet(value = EtagResource.POST_DETAIL, idVariable = "postId")
+        public String getPost(Long postId) {
+            return "post";
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        interceptor = new ConditionalGetInterceptor(redisUtil, eventPublisher);
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("getPost", Long.class));
+    }
+
+    private MockHttpServletRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/1");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("postId", "1"));
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("첫 요청 - ETag 헤더만 붙이고 핸들러 실행")
+    void firstRequest_setsEtag() {
+        given(redisUtil.getResourceVersion(EtagResource.POST_DETAIL, 1L)).willReturn(255L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request(null), response, handler);
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("ETag")).isEqualTo("W/\"post-1-ff\"");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 - 핸들러 없이 304 + 이벤트 발행")
+    void matchingEtag_notModified() {
+        given(redisUtil.getResourceVersion(EtagResource.POST_DETAIL, 1L)).willReturn(255L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request("\"post-1-ff\""), response, handler);
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verify(eventPublisher).publishEvent(any(ResourceNotModifiedEvent.class));
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 200 (핸들러 실행)")
+    void staleEtag_proceeds() {
+        given(redisUtil.getResourceVersion(EtagResource.POST_DETAIL, 1L)).willReturn(256L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request("W/\"post-1-ff\""), response, handler);
+
+        assertThat(proceed).isTrue();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 ETag 없이 일반 응답")
+    void redisDown_proceedsWithoutEtag() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request("W/\"post-1-ff\""), response, handler);
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("ETag")).isNull();
+    }
+
+    @Test
+    @DisplayName("If-None-Match 목록/와일드카드 비교")
+    void matches_listAndWildcard() {
+        assertThat(ConditionalGetInterceptor.matches("\"a\", W/\"post-1-ff\"", "W/\"post-1-ff\"")).isTrue();
+        assertThat(ConditionalGetInterceptor.matches("*", "W/\"post-1-ff\"")).isTrue();
+        assertThat(ConditionalGetInterceptor.matches("\"post-1-fe\"", "W/\"post-1-ff\"")).isFalse();
+    }
+}
@@ -0,0 +1,142 @@
+package com.jiucom.api.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.jiucom.api.global.util.Benchmark;
+import com.jiucom.api.global.util.BenchmarkReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * RequestLoggingFilter 요청당 오버헤드 비교 (수동 실행 전용).
+ *   JIUCOM_BENCHMARK=true ./gradlew test --tests '*RequestLoggingFilterBenchmark'
+ *
+ * sync  : 파일 appender 에 요청 스레드가 직접 쓰기 (기존 prod 구성)
+ * async : AsyncAppender(neverBlock) 경유
+ * async + sampling : 2xx 10% 샘플링
+ */
+@Benchmark
+class RequestLoggingFilterBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int REQUESTS = 200_000;
+
+    private static final FilterChain CHAIN = (request, response) ->
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/parts/{partId}");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("접근 로그 - sync vs async vs async + 샘플링")
+    void filterOverhead() throws Exception {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger logger = context.getLogger(RequestLoggingFilter.class);
+        Level originalLevel = logger.getLevel();
+        boolean originalAdditive = logger.isAdditive();
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+
+        try {
+            long logOff = measure(logger, null, 1.0, Level.WARN);
+
+            FileAppender<ILoggingEvent> syncFile = fileAppender(context, "sync.log");
+            long sync = measure(logger, syncFile, 1.0, Level.INFO);
+
+            FileAppender<ILoggingEvent> asyncTarget = fileAppender(context, "async.log");
+            long async = measure(logger, asyncAppender(context, asyncTarget), 1.0, Level.INFO);
+
+            FileAppender<ILoggingEvent> sampledTarget = fileAppender(context, "sampled.log");
+            long sampled = measure(logger, asyncAppender(context, sampledTarget), 0.1, Level.INFO);
+
+            new BenchmarkReport(String.format("RequestLoggingFilter %,d requests", REQUESTS))
+                    .add("logging off", logOff, REQUESTS)
+                    .add("sync file", sync, REQUESTS)
+                    .add("async", async, REQUESTS)
+                    .add("async + 10% sampling", sampled, REQUESTS)
+                    .log();
+        } finally {
+            logger.setLevel(originalLevel);
+            logger.setAdditive(originalAdditive);
+        }
+    }
+
+    private long measure(Logger logger, Appender<ILoggingEvent> appender, double sampleRate, Level level)
+            throws Exception {
+        logger.setLevel(level);
+        if (appender != null) {
+            logger.addAppender(appender);
+        }
+        try {
+            RequestLoggingFilter filter = newFilter(sampleRate);
+            run(filter, WARMUP);
+            long start = System.nanoTime();
+            run(filter, REQUESTS);
+            return System.nanoTime() - start;
+        } finally {
+            if (appender != null) {
+                logger.detachAppender(appender);
+                appender.stop();
+            }
+        }
+    }
+
+    private void run(RequestLoggingFilter filter, int requests) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/parts/" + (i % 1000));
+            request.setQueryString("page=0&size=20");
+            filter.doFilter(request, new MockHttpServletResponse(), CHAIN);
+        }
+    }
+
+    private RequestLoggingFilter newFilter(double sampleRate) {
+        StaticListableBeanFactory beanFactory =
+                new StaticListableBeanFactory(Map.of("meterRegistry", new SimpleMeterRegistry()));
+        return new RequestLoggingFilter(beanFactory.getBeanProvider(MeterRegistry.class), 5, sampleRate, 1000);
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(LoggerContext context, String fileName) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(tempDir.resolve(fileName).toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    // logback-spring.xml prod 프로필과 같은 설정
+    private AsyncAppender asyncAppender(LoggerContext context, Appender<ILoggingEvent> target) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setDiscardingThreshold(1638);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(target);
+        appender.start();
+        return appender;
+    }
+}
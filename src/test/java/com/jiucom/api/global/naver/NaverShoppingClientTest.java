@@ -0,0 +1,131 @@
+package com.jiucom.api.global.naver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 HTTP 서버(com.sun.net.httpserver)에 대해 실제 요청/응답 경로를 검증한다.
+ */
+class NaverShoppingClientTest {
+
+    private static final String BODY = """
+            {"lastBuildDate":"Mon, 19 Oct 2026 10:00:00 +0900","total":2,"start":1,"display":2,
+             "items":[
+               {"title":"<b>삼성</b> 990 PRO 1TB","lprice":"159000","hprice":"","mallName":"네이버","productId":"1","maker":"삼성전자","unknownField":{"nested":true}},
+               {"title":"WD SN850X 1TB","lprice":"139000","mallName":"쿠팡","productId":"2","brand":"WD"}
+             ]}
+            """;
+
+    private HttpServer server;
+    private NaverShoppingClient client;
+    private NaverShoppingConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicReference<String> lastQuery = new AtomicReference<>();
+    private final AtomicReference<String> lastClientId = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/search/shop.json", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getRawQuery());
+            lastClientId.set(exchange.getRequestHeaders().getFirst("X-Naver-Client-Id"));
+            byte[] body = gzip(BODY);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/error/v1/search/shop.json", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+
+        config = new NaverShoppingConfig();
+        ReflectionTestUtils.setField(config, "clientId", "test-id");
+        ReflectionTestUtils.setField(config, "clientSecret", "test-secret");
+        ReflectionTestUtils.setField(config, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(config, "requestTimeoutMs", 2000L);
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new NaverShoppingClient(config.naverShoppingHttpClient(), config, meterRegistry, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("gzip 응답을 스트리밍 파싱해 DTO 로 반환")
+    void searchAsync_gzip() {
+        CompletableFuture<NaverShoppingClient.NaverShoppingResponse> future =
+                client.searchAsync("NVMe SSD", 20, 1, "sim");
+
+        NaverShoppingClient.NaverShoppingResponse response = future.join();
+
+        assertThat(response.getTotal()).isEqualTo(2);
+        assertThat(response.getItems()).hasSize(2);
+        assertThat(response.getItems().get(0).getCleanTitle()).isEqualTo("삼성 990 PRO 1TB");
+        assertThat(response.getItems().get(0).getLpriceInt()).isEqualTo(159000);
+        assertThat(response.getItems().get(1).getEffectiveMaker()).isEqualTo("WD");
+        assertThat(lastQuery.get()).contains("query=NVMe%20SSD").contains("display=20");
+        assertThat(lastClientId.get()).isEqualTo("test-id");
+        assertThat(meterRegistry.timer("jiucom.naver.request", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동기 search 도 같은 DTO")
+    void search_sync() {
+        NaverShoppingClient.NaverShoppingResponse response = client.search("SSD", 20, 1, "sim");
+
+        assertThat(response.getItems()).extracting(NaverShoppingClient.NaverShoppingItem::getProductId)
+                .containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("HTTP 오류 - null 로 완료 + error 메트릭")
+    void searchAsync_httpError() {
+        ReflectionTestUtils.setField(config, "baseUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/error");
+
+        assertThat(client.searchAsync("SSD", 20, 1, "sim").join()).isNull();
+        assertThat(meterRegistry.timer("jiucom.naver.request", "outcome", "error").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("API 키 미설정 - 요청 없이 null")
+    void searchAsync_notConfigured() {
+        ReflectionTestUtils.setField(config, "clientId", "");
+
+        assertThat(client.searchAsync("SSD", 20, 1, "sim").join()).isNull();
+        assertThat(lastQuery.get()).isNull();
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,33 @@
+package com.jiucom.api.global.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final JsonStreamWriter writer = new JsonStreamWriter(objectMapper);
+
+    @Test
+    @DisplayName("ApiResponse 와 같은 모양으로 스트림 전체를 기록")
+    void writeList() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        int count = writer.writeList(out, IntStream.range(0, 1200).mapToObj(i -> Map.of("id", i)));
+
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertThat(count).isEqualTo(1200);
+        assertThat(root.get("success").asBoolean()).isTrue();
+        assertThat(root.get("data")).hasSize(1200);
+        assertThat(root.get("data").get(1199).get("id").asInt()).isEqualTo(1199);
+        assertThat(root.has("timestamp")).isTrue();
+    }
+}
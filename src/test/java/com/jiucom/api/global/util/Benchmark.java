@@ -0,0 +1,19 @@
+package com.jiucom.api.global.util;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 수동 실행 전용 벤치마크 - JIUCOM_BENCHMARK=true 일 때만 실행된다.
+ *   JIUCOM_BENCHMARK=true ./gradlew test --tests '*Benchmark'
+ * 결과는 {@link BenchmarkReport} 로 남긴다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@EnabledIfEnvironmentVariable(named = "JIUCOM_BENCHMARK", matches = "true")
+public @interface Benchmark {
+}
@@ -0,0 +1,44 @@
+package com.jiucom.api.global.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 측정값을 한 줄로 모아 로그로 남긴다.
+ * 로거 이름이 com.jiucom.api 밖이라 test 프로필의 WARN 레벨에 가려지지 않는다.
+ */
+public class BenchmarkReport {
+
+    private static final Logger log = LoggerFactory.getLogger("benchmark");
+
+    private final String title;
+    private final List<String> results = new ArrayList<>();
+
+    public BenchmarkReport(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @param elapsedNanos 전체 소요 시간
+     * @param operations   elapsedNanos 동안 수행한 작업 수 (행, 요청, 페이지 등)
+     */
+    public BenchmarkReport add(String label, long elapsedNanos, long operations) {
+        double nanosPerOp = elapsedNanos / (double) Math.max(1, operations);
+        results.add(String.format("%s: %,d ms, %s/op, %,.0f ops/s",
+                label, elapsedNanos / 1_000_000, formatNanos(nanosPerOp), 1_000_000_000.0 / Math.max(1, nanosPerOp)));
+        return this;
+    }
+
+    public void log() {
+        log.info("{} - {}", title, String.join(" | ", results));
+    }
+
+    private String formatNanos(double nanos) {
+        if (nanos >= 1_000_000) return String.format("%,.2f ms", nanos / 1_000_000);
+        if (nanos >= 1_000) return String.format("%,.1f us", nanos / 1_000);
+        return String.format("%,.0f ns", nanos);
+    }
+}
@@ -0,0 +1,122 @@
+package com.jiucom.api.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger redisCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private RedisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new RedisCircuitBreaker(meterRegistry, 3, Duration.ofSeconds(10), clock::get);
+    }
+
+    private Object failingCall() {
+        redisCalls.incrementAndGet();
+        throw new RedisConnectionFailureException("connection refused");
+    }
+
+    private String okCall() {
+        redisCalls.incrementAndGet();
+        return "ok";
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> breaker.execute(this::failingCall))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계값에 도달하면 OPEN - 이후 Redis 를 호출하지 않고 즉시 거절")
+    void opensAfterConsecutiveFailures() {
+        failTimes(3);
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.execute(this::okCall))
+                .isInstanceOf(RedisCircuitBreaker.RedisCircuitOpenException.class);
+        assertThat(redisCalls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("jiucom.redis.circuit.rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jiucom.redis.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수 초기화")
+    void successResetsFailures() {
+        failTimes(2);
+        breaker.execute(this::okCall);
+        failTimes(2);
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("open-duration 이후 probe 성공 → CLOSED")
+    void halfOpenProbeSuccess() {
+        failTimes(3);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(breaker.execute(this::okCall)).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.counter("jiucom.redis.circuit.transitions", "to", "closed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("probe 실패 → 다시 OPEN, open-duration 새로 시작")
+    void halfOpenProbeFailure() {
+        failTimes(3);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        failTimes(1);
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThatThrownBy(() -> breaker.execute(this::okCall))
+                .isInstanceOf(RedisCircuitBreaker.RedisCircuitOpenException.class);
+        assertThat(redisCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("probe 중 Error 가 나도 다음 호출에서 다시 probe")
+    void halfOpenProbeError() {
+        failTimes(3);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.execute(this::okCall)).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("직렬화 오류는 Redis 장애로 세지 않음")
+    void nonDataAccessErrorsDoNotCount() {
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new SerializationException("bad payload");
+            })).isInstanceOf(SerializationException.class);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+}
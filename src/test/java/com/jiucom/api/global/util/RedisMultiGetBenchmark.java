@@ -0,0 +1,116 @@
+package com.jiucom.api.global.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 페이지 hydration - 키마다 GET/SET vs MGET/파이프라인 SET (수동 실행 전용, 실제 Redis 필요).
+ *   JIUCOM_BENCHMARK=true REDIS_HOST=localhost ./gradlew test --tests '*RedisMultiGetBenchmark'
+ * 로컬 Redis 는 왕복 지연이 거의 없어 차이가 작게 나온다 - 원격 Redis(ElastiCache 등)에서 측정해야 의미가 있다.
+ */
+@Benchmark
+class RedisMultiGetBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 2_000;
+    private static final String PREFIX = "benchmark:hydrate:";
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisUtil redisUtil;
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.afterPropertiesSet();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        redisUtil = new RedisUtil(template, new ObjectMapper(), meterRegistry,
+                new RedisCircuitBreaker(meterRegistry, 5, Duration.ofSeconds(10)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisUtil.deleteByPattern(PREFIX + "*");
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("페이지 20건 hydration - 키별 왕복 vs 배치 1회")
+    void hydratePage() {
+        List<String> keys = new ArrayList<>();
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            keys.add(PREFIX + i);
+            values.put(PREFIX + i, (long) i);
+        }
+
+        // warm-up
+        for (int i = 0; i < 200; i++) {
+            redisUtil.multiSet(values, Duration.ofMinutes(5));
+            redisUtil.multiGet("benchmark", keys);
+        }
+
+        long perKeySetStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            values.forEach((key, value) -> redisUtil.set(key, value, 5, TimeUnit.MINUTES));
+        }
+        long perKeySet = System.nanoTime() - perKeySetStart;
+
+        long batchSetStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            redisUtil.multiSet(values, Duration.ofMinutes(5));
+        }
+        long batchSet = System.nanoTime() - batchSetStart;
+
+        long perKeyGetStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String key : keys) {
+                redisUtil.get(key);
+            }
+        }
+        long perKeyGet = System.nanoTime() - perKeyGetStart;
+
+        long batchGetStart = System.nanoTime();
+        List<Object> last = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            last = redisUtil.multiGet("benchmark", keys);
+        }
+        long batchGet = System.nanoTime() - batchGetStart;
+
+        // op = 페이지 1개 (키 PAGE_SIZE 개)
+        new BenchmarkReport(String.format("Redis hydration of %d keys x %,d pages", PAGE_SIZE, ITERATIONS))
+                .add("GET x" + PAGE_SIZE, perKeyGet, ITERATIONS)
+                .add("MGET", batchGet, ITERATIONS)
+                .add("SET x" + PAGE_SIZE, perKeySet, ITERATIONS)
+                .add("pipelined SET", batchSet, ITERATIONS)
+                .log();
+
+        assertThat(last).hasSize(PAGE_SIZE);
+        assertThat(((Number) last.get(PAGE_SIZE - 1)).longValue()).isEqualTo(PAGE_SIZE - 1);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,4 +98,23 @@ class LikeIntegrationTest {
         assertThat(data.get("liked")).isEqualTo(false);
         assertThat(((Number) data.get("likeCount")).longValue()).isEqualTo(0L);
     }
+
+    @Test
+    @Order(5)
+    @DisplayName("좋아요 상태 일괄 조회 - 비로그인은 liked=false")
+    void getLikeStatuses() {
+        restTemplate.exchange("/likes/POST/" + postId, HttpMethod.POST,
+                new HttpEntity<>(authHeaders()), Map.class);
+
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+                "/likes/POST?targetIds=" + postId + ",999999", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map> data = (List<Map>) response.getBody().get("data");
+        assertThat(data).hasSize(2);
+        assertThat(((Number) data.get(0).get("targetId")).longValue()).isEqualTo(postId);
+        assertThat(data.get(0).get("liked")).isEqualTo(false);
+        assertThat(((Number) data.get(0).get("likeCount")).longValue()).isEqualTo(1L);
+        assertThat(((Number) data.get(1).get("likeCount")).longValue()).isEqualTo(0L);
+    }
 }
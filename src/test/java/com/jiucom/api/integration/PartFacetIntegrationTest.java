@@ -0,0 +1,58 @@
+package com.jiucom.api.integration;
+
+import com.jiucom.api.domain.part.dto.response.PartFacetResponse;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.part.service.PartSpecService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스펙 facet 개수 - 실제 QueryDSL 쿼리로 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PartFacetIntegrationTest {
+
+    @Autowired
+    private PartRepository partRepository;
+    @Autowired
+    private PartSpecService partSpecService;
+
+    @Test
+    @DisplayName("facet 개수 - 선택한 key 는 자기 필터를 빼고, 다른 key 는 선택으로 좁혀서 센다 (key 정규화)")
+    void getFacets_excludesOwnKeyFilter() {
+        cooler("Facet Cooler A", "{\"socket\":\"AM5\",\"type\":\"air\"}");
+        cooler("Facet Cooler B", "{\"socket\":\"AM4\",\"type\":\"liquid\"}");
+        cooler("Facet Cooler C", "{\" Socket\":\"AM5\",\"type\":\"liquid\"}");
+
+        Map<String, Map<String, Long>> facets = toMap(
+                partSpecService.getFacets(PartCategory.COOLER, List.of(" SOCKET :am5")));
+
+        // 같은 key 의 값은 OR - AM5 를 골라도 AM4 개수가 남아야 다른 소켓을 추가로 고를 수 있다
+        assertThat(facets.get("socket")).isEqualTo(Map.of("AM5", 2L, "AM4", 1L));
+        assertThat(facets.get("type")).isEqualTo(Map.of("AIR", 1L, "LIQUID", 1L));
+    }
+
+    private void cooler(String name, String specs) {
+        Part part = partRepository.save(Part.builder()
+                .name(name).category(PartCategory.COOLER).manufacturer("bench").specs(specs).build());
+        partSpecService.reindex(part);
+    }
+
+    private Map<String, Map<String, Long>> toMap(List<PartFacetResponse> facets) {
+        return facets.stream().collect(Collectors.toMap(PartFacetResponse::getKey,
+                facet -> facet.getValues().stream().collect(Collectors.toMap(
+                        PartFacetResponse.FacetValue::getValue, PartFacetResponse.FacetValue::getCount))));
+    }
+}
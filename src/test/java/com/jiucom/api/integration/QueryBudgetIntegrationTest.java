@@ -0,0 +1,214 @@
+package com.jiucom.api.integration;
+
+import com.jiucom.api.domain.comment.dto.response.CommentListResponse;
+import com.jiucom.api.domain.comment.service.CommentService;
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.jiucom.api.global.actuator.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 API 의 요청당 SQL 수 상한. 행 수만큼 쿼리가 늘어나는 회귀(N+1)를 잡는다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class QueryBudgetIntegrationTest {
+
+    private static final int ROOT_COMMENTS = 3;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private PartRepository partRepository;
+    @Autowired
+    private CommentService commentService;
+
+    private static String accessToken;
+    private static Long postId;
+    private static final List<Long> partIds = new ArrayList<>();
+
+    private HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders headers = jsonHeaders();
+        headers.setBearerAuth(accessToken);
+        return headers;
+    }
+
+    private Long createComment(String content, Long parentId) {
+        String body = parentId == null
+                ? "{\"content\":\"" + content + "\"}"
+                : "{\"content\":\"" + content + "\",\"parentId\":" + parentId + "}";
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "/posts/" + postId + "/comments", HttpMethod.POST,
+                new HttpEntity<>(body, authHeaders()), Map.class);
+        Map data = (Map) response.getBody().get("data");
+        return ((Number) data.get("id")).longValue();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("사전 준비 - 회원가입 + 게시글 + 부품")
+    void setup() {
+        String signupBody = """
+                {"email":"budget@test.com","password":"password123","nickname":"쿼리예산"}
+                """;
+        ResponseEntity<Map> signupRes = restTemplate.exchange(
+                "/auth/signup", HttpMethod.POST,
+                new HttpEntity<>(signupBody, jsonHeaders()), Map.class);
+        accessToken = (String) ((Map) signupRes.getBody().get("data")).get("accessToken");
+
+        String postBody = """
+                {"boardType":"FREE","title":"쿼리 예산 테스트","content":"댓글 목록 N+1 확인"}
+                """;
+        ResponseEntity<Map> postRes = restTemplate.exchange(
+                "/posts", HttpMethod.POST,
+                new HttpEntity<>(postBody, authHeaders()), Map.class);
+        postId = ((Number) ((Map) postRes.getBody().get("data")).get("id")).longValue();
+
+        for (int i = 0; i < 2; i++) {
+            Part part = partRepository.save(Part.builder()
+                    .name("Budget SSD " + i)
+                    .category(PartCategory.SSD)
+                    .manufacturer("Budget")
+                    .lowestPrice(100000 + i)
+                    .build());
+            partIds.add(part.getId());
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("댓글 목록 - 루트 댓글 수와 무관하게 답글은 한 번에 조회")
+    void commentList() {
+        for (int i = 0; i < ROOT_COMMENTS; i++) {
+            Long rootId = createComment("루트 댓글 " + i, null);
+            createComment("답글 " + i, rootId);
+        }
+
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+                "/posts/" + postId + "/comments?page=0&size=20", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map> comments = (List<Map>) ((Map) response.getBody().get("data")).get("comments");
+        assertThat(comments).hasSize(ROOT_COMMENTS);
+        assertThat(comments).allSatisfy(comment -> assertThat((List) comment.get("replies")).hasSize(1));
+        // 루트 댓글 페이지 + 답글 일괄 조회 (+ COUNT)
+        assertMaxQueries(response, 3);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("댓글 목록 - 서비스 직접 호출")
+    void commentList_service() {
+        CommentListResponse response = assertMaxQueries(3, () -> commentService.getComments(postId, 0, 20));
+
+        assertThat(response.getComments()).hasSize(ROOT_COMMENTS);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("게시글 목록 - 작성자 함께 조회")
+    void postList() {
+        ResponseEntity<Map> response = restTemplate.getForEntity("/posts?page=0&size=20", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertMaxQueries(response, 2);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("관심 부품 목록 - 부품 함께 조회")
+    void favoriteList() {
+        for (Long partId : partIds) {
+            restTemplate.exchange("/favorites/parts/" + partId, HttpMethod.POST,
+                    new HttpEntity<>(authHeaders()), Map.class);
+        }
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "/favorites?page=0&size=20", HttpMethod.GET,
+                new HttpEntity<>(authHeaders()), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // 사용자 조회 + 관심 부품 페이지 (+ COUNT)
+        assertMaxQueries(response, 3);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("내 가격 알림 목록 - 부품 함께 조회")
+    void priceAlertList() {
+        for (Long partId : partIds) {
+            String body = "{\"partId\":" + partId + ",\"targetPrice\":90000}";
+            restTemplate.exchange("/prices/alerts", HttpMethod.POST,
+                    new HttpEntity<>(body, authHeaders()), Map.class);
+        }
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "/prices/alerts", HttpMethod.GET,
+                new HttpEntity<>(authHeaders()), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List) response.getBody().get("data")).hasSize(partIds.size());
+        // 사용자 조회 + 알림 목록
+        assertMaxQueries(response, 2);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("관심 부품 여부 일괄 조회 - IN 1회")
+    void favoriteStatuses() {
+        String ids = String.join(",", partIds.stream().map(String::valueOf).toList());
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "/favorites/parts/status?partIds=" + ids, HttpMethod.GET,
+                new HttpEntity<>(authHeaders()), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List) response.getBody().get("data")).hasSize(partIds.size());
+        assertMaxQueries(response, 1);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("좋아요 상태 일괄 조회 - 대상 수와 무관")
+    void likeStatuses() {
+        ResponseEntity<Map> response = restTemplate.exchange(
+                "/likes/POST?targetIds=" + postId + ",999998,999999", HttpMethod.GET,
+                new HttpEntity<>(authHeaders()), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List) response.getBody().get("data")).hasSize(3);
+        // 좋아요 수 GROUP BY (Redis 미스) + 좋아요 여부 IN
+        assertMaxQueries(response, 2);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("부품 단건 조회 - 2차 캐시 히트면 SQL 없음")
+    void partFindById_secondLevelCache() {
+        Long partId = partIds.get(0);
+        partRepository.findById(partId);
+
+        Part part = assertMaxQueries(0, () -> partRepository.findById(partId).orElseThrow());
+
+        assertThat(part.getName()).isEqualTo("Budget SSD 0");
+    }
+}
@@ -0,0 +1,159 @@
+package com.jiucom.api.integration;
+
+import com.jiucom.api.domain.part.entity.Part;
+import com.jiucom.api.domain.part.entity.PartRating;
+import com.jiucom.api.domain.part.entity.enums.PartCategory;
+import com.jiucom.api.domain.part.repository.PartRepository;
+import com.jiucom.api.domain.review.dto.request.ReviewCreateRequest;
+import com.jiucom.api.domain.review.entity.Review;
+import com.jiucom.api.domain.review.repository.ReviewRepository;
+import com.jiucom.api.domain.review.service.ReviewService;
+import com.jiucom.api.domain.user.entity.User;
+import com.jiucom.api.domain.user.entity.enums.Role;
+import com.jiucom.api.domain.user.entity.enums.SocialType;
+import com.jiucom.api.domain.user.entity.enums.UserStatus;
+import com.jiucom.api.domain.user.repository.UserRepository;
+import com.jiucom.api.global.exception.GlobalException;
+import com.jiucom.api.global.exception.code.GlobalErrorCode;
+import com.jiucom.api.global.util.TestSecurityContextHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 평점 집계(parts 비정규화 컬럼)의 동시성 - 실제 DB 행 잠금으로 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewConcurrencyIntegrationTest {
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private PartRepository partRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("같은 리뷰 동시 삭제 - 한 번만 성공하고 평점 집계는 한 번만 차감")
+    void deleteReview_concurrentDoubleDelete() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("review-race@test.com").password("enc").nickname("리뷰동시성")
+                .role(Role.USER).socialType(SocialType.LOCAL).status(UserStatus.ACTIVE).build());
+        Part part = Part.builder()
+                .name("Race Test GPU").category(PartCategory.GPU).manufacturer("NVIDIA").build();
+        part.addReviewRating(2);   // 다른 사용자의 기존 리뷰 - 이중 차감이 0 에서 가려지지 않도록
+        part.addReviewRating(4);
+        part = partRepository.save(part);
+        Review review = reviewRepository.save(Review.builder()
+                .author(user).part(part).rating(4).content("동시 삭제").build());
+
+        Long userId = user.getId();
+        Long reviewId = review.getId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<GlobalErrorCode>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> {
+                    TestSecurityContextHelper.setAuthentication(userId);
+                    try {
+                        start.await();
+                        reviewService.deleteReview(reviewId);
+                        return null;
+                    } catch (GlobalException e) {
+                        return e.getErrorCode();
+                    } finally {
+                        TestSecurityContextHelper.clearAuthentication();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<GlobalErrorCode> errors = new ArrayList<>();
+            for (Future<GlobalErrorCode> result : results) {
+                errors.add(result.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(errors).containsExactlyInAnyOrder(null, GlobalErrorCode.REVIEW_NOT_FOUND);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        PartRating rating = partRepository.findById(part.getId()).orElseThrow().getRating();
+        assertThat(rating.getReviewCount()).isEqualTo(1);
+        assertThat(rating.getRatingSum()).isEqualTo(2);
+        assertThat(rating.getDistribution()).containsExactly(0, 1, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("부품 로드 후 다른 트랜잭션이 리뷰를 커밋해도 가격 갱신이 평점 집계를 덮어쓰지 않음")
+    void updatePart_doesNotOverwriteConcurrentReviewRating() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("review-stale@test.com").password("enc").nickname("리뷰덮어쓰기")
+                .role(Role.USER).socialType(SocialType.LOCAL).status(UserStatus.ACTIVE).build());
+        Part part = partRepository.save(Part.builder()
+                .name("Stale Test CPU").category(PartCategory.CPU).manufacturer("AMD")
+                .lowestPrice(300000).highestPrice(350000).build());
+        Long userId = user.getId();
+        Long partId = part.getId();
+
+        ReviewCreateRequest request = new ReviewCreateRequest();
+        setField(request, "partId", partId);
+        setField(request, "rating", 5);
+        setField(request, "content", "가격 갱신 중 작성");
+
+        // 가져오기/관리자 수정처럼 부품을 잠금 없이 읽어 둔 트랜잭션 - flush 전에 리뷰가 커밋된다
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Part loaded = partRepository.findById(partId).orElseThrow();
+                Future<?> review = executor.submit(() -> {
+                    TestSecurityContextHelper.setAuthentication(userId);
+                    try {
+                        reviewService.createReview(request);
+                    } finally {
+                        TestSecurityContextHelper.clearAuthentication();
+                    }
+                });
+                try {
+                    review.get(30, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                loaded.updatePriceRange(290000, 350000);
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Part result = partRepository.findById(partId).orElseThrow();
+        assertThat(result.getLowestPrice()).isEqualTo(290000);
+        assertThat(result.getRating().getReviewCount()).isEqualTo(1);
+        assertThat(result.getRating().getRatingSum()).isEqualTo(5);
+    }
+
+    private void setField(Object target, String name, Object value) {
+        try {
+            Field f = target.getClass().getDeclaredField(name);
+            f.setAccessible(true);
+            f.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}